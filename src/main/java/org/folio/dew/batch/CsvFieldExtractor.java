@@ -1,18 +1,28 @@
 package org.folio.dew.batch;
 
 import org.apache.commons.lang3.ArrayUtils;
+import org.folio.dew.utils.CsvRowEncoder;
 import org.springframework.batch.item.file.transform.BeanWrapperFieldExtractor;
 
 public class CsvFieldExtractor<T> extends BeanWrapperFieldExtractor<T> {
   private final FieldProcessor fieldProcessor;
+  private String[] names;
+  private volatile CsvRowEncoder encoder;
 
   public CsvFieldExtractor(FieldProcessor fieldProcessor) {
     this.fieldProcessor = fieldProcessor;
   }
 
+  @Override
+  public void setNames(String[] names) {
+    super.setNames(names);
+    this.names = names.clone();
+    this.encoder = null;
+  }
+
   @Override
   public Object[] extract(T item) {
-    Object[] result = super.extract(item);
+    Object[] result = getEncoder(item.getClass()).extract(item);
     if (ArrayUtils.isEmpty(result)) {
       return result;
     }
@@ -27,19 +37,18 @@ public class CsvFieldExtractor<T> extends BeanWrapperFieldExtractor<T> {
         o = fieldProcessor.process(o, i);
       }
 
-      var s = o.toString();
-
-      if (s.contains("\"")) {
-        s = s.replace("\"", "\"\"");
-      }
-
-      if (s.contains(",") || s.contains("\n")) {
-        s = "\"" + s + "\"";
-      }
-
-      result[i] = s;
+      result[i] = CsvRowEncoder.escapeCsvValue(o.toString());
     }
 
     return result;
   }
+
+  private CsvRowEncoder getEncoder(Class<?> itemClass) {
+    var current = encoder;
+    if (current == null || !current.supports(itemClass)) {
+      current = CsvRowEncoder.forProperties(itemClass, names);
+      encoder = current;
+    }
+    return current;
+  }
 }
@@ -1,24 +1,33 @@
 package org.folio.dew.batch;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.io.FilenameUtils;
 import org.folio.dew.domain.dto.JobParameterNames;
 import org.folio.dew.repository.RemoteFilesStorage;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.partition.support.StepExecutionAggregator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Component
 @Log4j2
-@RequiredArgsConstructor
 public class CsvFileAssembler implements StepExecutionAggregator {
   private static final String TEXT_CSV = "text/csv";
 
   private final RemoteFilesStorage remoteFilesStorage;
+  private final TaskExecutor fileAssemblyExecutor;
+
+  public CsvFileAssembler(RemoteFilesStorage remoteFilesStorage,
+                          @Qualifier("fileAssemblyExecutor") TaskExecutor fileAssemblyExecutor) {
+    this.remoteFilesStorage = remoteFilesStorage;
+    this.fileAssemblyExecutor = fileAssemblyExecutor;
+  }
 
   @Override
   public void aggregate(StepExecution stepExecution, Collection<StepExecution> finishedStepExecutions) {
@@ -35,22 +44,30 @@ public class CsvFileAssembler implements StepExecutionAggregator {
       } else {
         var prefix = stepExecution.getJobExecution().getJobParameters().getString(JobParameterNames.JOB_ID) + "/";
 
-        destCsvObject = prefix + destCsvObject;
-        var csvUrl = remoteFilesStorage.objectToPresignedObjectUrl(
-          remoteFilesStorage.composeObject(destCsvObject, csvFilePartObjectNames, null, TEXT_CSV));
-
         var jsonFilePartObjectNames = finishedStepExecutions.stream()
           .map(e -> e.getExecutionContext().getString(JobParameterNames.TEMP_OUTPUT_FILE_PATH) + ".json")
           .collect(Collectors.toList());
         var destJsonObject = prefix + FilenameUtils.getName(
           stepExecution.getJobExecution().getJobParameters().getString(JobParameterNames.TEMP_OUTPUT_FILE_PATH) + ".json");
-        var jsonUrl = remoteFilesStorage.objectToPresignedObjectUrl(
-          remoteFilesStorage.composeObject(destJsonObject, jsonFilePartObjectNames, null, TEXT_CSV));
+        // the JSON file is assembled in parallel with the CSV one, they have no parts in common
+        var jsonUrl = CompletableFuture.supplyAsync(() -> composeAndSign(destJsonObject, jsonFilePartObjectNames), fileAssemblyExecutor);
+
+        destCsvObject = prefix + destCsvObject;
+        var csvUrl = composeAndSign(destCsvObject, csvFilePartObjectNames);
 
-        ExecutionContextUtils.addToJobExecutionContext(stepExecution, JobParameterNames.OUTPUT_FILES_IN_STORAGE, csvUrl + ";;" + jsonUrl, ";");
+        ExecutionContextUtils.addToJobExecutionContext(stepExecution, JobParameterNames.OUTPUT_FILES_IN_STORAGE, csvUrl + ";;" + jsonUrl.join(), ";");
       }
     } catch (Exception e) {
       throw new IllegalStateException(e);
     }
   }
+
+  private String composeAndSign(String destObject, List<String> sourceObjects) {
+    try {
+      return remoteFilesStorage.objectToPresignedObjectUrl(
+        remoteFilesStorage.composeObject(destObject, sourceObjects, null, TEXT_CSV));
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
 }
@@ -0,0 +1,17 @@
+package org.folio.dew.batch;
+
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Launches acquisitions export jobs on their own executor, so a burst of scheduled vendor exports
+ * does not occupy the threads shared by the other export types.
+ */
+@Component
+public class ExportJobManagerAcquisitions extends ExportJobManager {
+  public ExportJobManagerAcquisitions(@Qualifier("acquisitionsJobLauncher") JobLauncher jobLauncher, JobExplorer jobExplorer) {
+    super(jobLauncher, jobExplorer);
+  }
+}
@@ -55,7 +55,6 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.de.entity.Job;
-import org.folio.dew.config.kafka.KafkaService;
 import org.folio.dew.domain.dto.JobParameterNames;
 import org.folio.dew.domain.dto.Progress;
 import org.folio.dew.domain.dto.UserFormat;
@@ -64,6 +63,7 @@ import org.folio.dew.repository.LocalFilesStorage;
 import org.folio.dew.repository.RemoteFilesStorage;
 import org.folio.dew.service.BulkEditProcessingErrorsService;
 import org.folio.dew.service.BulkEditStatisticService;
+import org.folio.dew.service.JobUpdatesPublisher;
 import org.folio.dew.utils.CsvHelper;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
@@ -77,7 +77,7 @@ import org.springframework.stereotype.Component;
 public class JobCompletionNotificationListener implements JobExecutionListener {
   private static final String PATHS_DELIMITER = ";";
   private static final int COMPLETE_PROGRESS_VALUE = 100;
-  private final KafkaService kafka;
+  private final JobUpdatesPublisher jobUpdatesPublisher;
   private final RemoteFilesStorage remoteFilesStorage;
   private final LocalFilesStorage localFilesStorage;
   private final BulkEditProcessingErrorsService bulkEditProcessingErrorsService;
@@ -118,8 +118,8 @@ public class JobCompletionNotificationListener implements JobExecutionListener {
           int totalUsers = CsvHelper.readRecordsFromStorage(remoteFilesStorage, filePath, UserFormat.class, true).size();
           jobExecution.getExecutionContext().putInt(TOTAL_RECORDS, totalUsers);
         } else {
-          try (var lines = localFilesStorage.lines(filePath)) {
-            int totalUsers = (int) lines.count() - 1;
+          try {
+            int totalUsers = (int) localFilesStorage.countLines(filePath) - 1;
             jobExecution.getExecutionContext().putInt(TOTAL_RECORDS, totalUsers);
           } catch (NullPointerException e) {
             String msg = String.format("Couldn't open a required for the job file. File path '%s'", FILE_NAME);
@@ -150,9 +150,11 @@ public class JobCompletionNotificationListener implements JobExecutionListener {
     if (isBulkEditJob(jobExecution)) {
       populateFileNames(jobExecution, jobExecutionUpdate, jobParameters);
     }
-    kafka.send(KafkaService.Topic.JOB_UPDATE, jobExecutionUpdate.getId().toString(), jobExecutionUpdate);
     if (after) {
+      jobUpdatesPublisher.publish(jobExecutionUpdate);
       log.info("-----------------------------JOB---ENDS-----------------------------");
+    } else {
+      jobUpdatesPublisher.publishStarted(jobExecutionUpdate);
     }
   }
 
@@ -220,15 +222,9 @@ public class JobCompletionNotificationListener implements JobExecutionListener {
     if (StringUtils.isBlank(path) || StringUtils.isBlank(fileNameStart)) {
       return;
     }
-    var files = localFilesStorage.walk(path)
-      .filter(name -> FilenameUtils.getName(name).startsWith(fileNameStart)).collect(Collectors.toList());
-    if (files.isEmpty()) {
-      return;
-    }
-    for (String f : files) {
-        localFilesStorage.delete(f);
-    }
-    log.info("Deleted temp files {} of job {}.", files, jobId);
+    // all temp files of the job share the output file prefix
+    localFilesStorage.delete(path + fileNameStart);
+    log.info("Deleted temp files {}* of job {}.", path + fileNameStart, jobId);
   }
 
   private Job createJobExecutionUpdate(String jobId, JobExecution jobExecution) {
@@ -384,9 +380,7 @@ public class JobCompletionNotificationListener implements JobExecutionListener {
       return CsvHelper.readRecordsFromStorage(remoteFilesStorage, path, UserFormat.class, true).isEmpty();
     }
 
-    try (var lines = localFilesStorage.lines(path)) {
-      return lines.count() <= (path.endsWith(".json") ? 0 : 1);
-    }
+    return localFilesStorage.countLines(path) <= (path.endsWith(".json") ? 0 : 1);
 
   }
 
@@ -1,14 +1,10 @@
 package org.folio.dew.batch;
 
 import static org.apache.commons.lang3.StringUtils.EMPTY;
-import static org.folio.dew.utils.Constants.NEW_LINE;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
 import org.folio.dew.domain.dto.Formatable;
-import org.folio.dew.domain.dto.HoldingsFormat;
-import org.folio.dew.domain.dto.InstanceFormat;
-import org.folio.dew.domain.dto.ItemFormat;
-import org.folio.dew.utils.WriterHelper;
+import org.folio.dew.utils.JsonRecordsBuffer;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.json.JacksonJsonObjectMarshaller;
 import org.springframework.batch.item.json.JsonFileItemWriter;
@@ -17,35 +13,26 @@ import org.springframework.core.io.WritableResource;
 import java.util.List;
 
 public class JsonListFileWriter<T, U extends Formatable<T>> extends JsonFileItemWriter<List<U>> {
-  private final JacksonJsonObjectMarshaller<T> marshaller;
-  private final ObjectMapper objectMapper;
+  private final JsonRecordsBuffer jsonRecordsBuffer;
   public JsonListFileWriter(WritableResource resource) {
     super(resource, new JacksonJsonObjectMarshaller<>());
     lineSeparator = EMPTY;
     setHeaderCallback(writer -> writer.write(EMPTY));
     setFooterCallback(writer -> writer.write(EMPTY));
-    marshaller = new JacksonJsonObjectMarshaller<>();
-    objectMapper = new ObjectMapper();
+    jsonRecordsBuffer = new JsonRecordsBuffer();
   }
 
+  @SneakyThrows
   @Override
   public String doWrite(Chunk<? extends List<U>> lists) {
-    var lines = new StringBuilder();
-    var chunk = new Chunk<>(lists.getItems().stream().flatMap(List::stream).toList());
-    var iterator = chunk.iterator();
-    while (iterator.hasNext()) {
-      var item = iterator.next();
-      if (item instanceof HoldingsFormat hf) {
-        lines.append(WriterHelper.enrichHoldingsJson(hf, objectMapper));
-      } else if (item instanceof InstanceFormat instanceFormat) {
-        lines.append(WriterHelper.enrichInstancesJson(instanceFormat, objectMapper));
-      } else if (item instanceof ItemFormat itemFormat) {
-        lines.append(WriterHelper.enrichItemsJson(itemFormat, objectMapper));
-      } else {
-        lines.append(marshaller.marshal(item.getOriginal()));
+    synchronized (jsonRecordsBuffer) {
+      for (var list : lists) {
+        for (var item : list) {
+          jsonRecordsBuffer.writeEnriched(item);
+          jsonRecordsBuffer.newLine();
+        }
       }
-      lines.append(NEW_LINE);
+      return jsonRecordsBuffer.drainString();
     }
-    return lines.toString();
   }
 }
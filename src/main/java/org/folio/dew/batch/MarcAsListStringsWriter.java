@@ -1,5 +1,6 @@
 package org.folio.dew.batch;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.log4j.Log4j2;
 import org.folio.dew.client.SrsClient;
 import org.folio.dew.domain.dto.Formatable;
@@ -12,10 +13,12 @@ import org.springframework.batch.item.ItemStream;
 import org.springframework.batch.item.file.FlatFileItemWriter;
 import org.springframework.util.Assert;
 
-import java.io.IOException;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
 import static java.lang.String.format;
 import static java.util.Objects.nonNull;
@@ -38,16 +41,35 @@ public class MarcAsListStringsWriter<T, U extends Formatable<T>> extends FlatFil
 
   @Override
   public void write(Chunk<? extends List<U>> items) throws Exception {
-    delegateToStringWriter.write(new Chunk<>(items.getItems().stream().flatMap(List::stream)
-      .filter(itm -> itm.isInstanceFormat() && itm.isSourceMarc()).map(marc -> {
-        try {
-          return getMarcContent(marc.getId());
-        } catch (Exception e) {
-          log.error(e);
-          throw new BulkEditException(format(NO_MARC_CONTENT, marc.getId(), e.getMessage()));
+    var ids = items.getItems().stream().flatMap(List::stream)
+      .filter(itm -> itm.isInstanceFormat() && itm.isSourceMarc())
+      .map(Formatable::getId)
+      .distinct()
+      .toList();
+    if (ids.isEmpty()) {
+      return;
+    }
+    var srsRecords = getSrsRecords(ids);
+    var byteArrayOutputStream = new ByteArrayOutputStream();
+    var marcWriter = jsonToMarcConverter.newMarcWriter(byteArrayOutputStream);
+    for (var id : ids) {
+      var records = srsRecords.get(id);
+      if (records == null) {
+        log.warn("No SRS records found by instanceId = {}", id);
+        continue;
+      }
+      try {
+        for (var content : records) {
+          jsonToMarcConverter.writeJsonRecordAsMarc(content, marcWriter);
         }
-      })
-      .flatMap(List::stream).filter(Objects::nonNull).toList()));
+      } catch (Exception e) {
+        log.error(e);
+        throw new BulkEditException(format(NO_MARC_CONTENT, id, e.getMessage()));
+      }
+    }
+    if (byteArrayOutputStream.size() > 0) {
+      delegateToStringWriter.write(new Chunk<>(byteArrayOutputStream.toString(StandardCharsets.UTF_8)));
+    }
   }
 
   @Override
@@ -76,19 +98,25 @@ public class MarcAsListStringsWriter<T, U extends Formatable<T>> extends FlatFil
     }
   }
 
-  private List<String> getMarcContent(String id) throws Exception {
-    List<String> mrcRecords = new ArrayList<>();
-    var srsRecords = srsClient.getMarc(id, "INSTANCE", true).get("sourceRecords");
-    if (srsRecords.isEmpty()) {
-      log.warn("No SRS records found by instanceId = {}", id);
-      return mrcRecords;
+  private Map<String, List<String>> getSrsRecords(List<String> ids) {
+    JsonNode srsRecords;
+    try {
+      srsRecords = srsClient.getMarcByIds(ids, "INSTANCE", true).get("sourceRecords");
+    } catch (Exception e) {
+      log.error(e);
+      throw new BulkEditException(format(NO_MARC_CONTENT, String.join(",", ids), e.getMessage()));
+    }
+    Map<String, List<String>> recordsByInstanceId = new LinkedHashMap<>();
+    if (srsRecords == null) {
+      return recordsByInstanceId;
     }
     for (var jsonNodeIterator = srsRecords.elements(); jsonNodeIterator.hasNext();) {
       var srsRec = jsonNodeIterator.next();
-      var parsedRec = srsRec.get("parsedRecord");
-      var content = parsedRec.get("content").toString();
-      mrcRecords.add(jsonToMarcConverter.convertJsonRecordToMarcRecord(content));
+      var instanceId = srsRec.path("externalIdsHolder").path("instanceId").asText();
+      var content = srsRec.path("parsedRecord").path("content");
+      recordsByInstanceId.computeIfAbsent(instanceId, id -> new ArrayList<>())
+        .add(content.isMissingNode() ? null : content.toString());
     }
-    return mrcRecords;
+    return recordsByInstanceId;
   }
 }
@@ -1,6 +1,7 @@
 package org.folio.dew.batch.acquisitions.edifact;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -22,9 +23,17 @@ public class PurchaseOrdersToEdifactMapper {
     this.compositePOConverter = compositePOConverter;
   }
 
-  public String convertOrdersToEdifact(List<CompositePurchaseOrder> compPOs, VendorEdiOrdersExportConfig ediExportConfig, String jobName) throws EDIStreamException {
+  public String convertOrdersToEdifact(Iterable<CompositePurchaseOrder> compPOs, VendorEdiOrdersExportConfig ediExportConfig, String jobName) throws EDIStreamException {
     ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    convertOrdersToEdifact(compPOs, ediExportConfig, jobName, stream);
+    return stream.toString();
+  }
 
+  /**
+   * Writes the EDIFACT file of the orders to the stream as the orders are iterated, the stream is left open.
+   */
+  public void convertOrdersToEdifact(Iterable<CompositePurchaseOrder> compPOs, VendorEdiOrdersExportConfig ediExportConfig, String jobName,
+                                     OutputStream stream) throws EDIStreamException {
     EDIOutputFactory factory = EDIOutputFactory.newFactory();
     factory.setProperty(EDIOutputFactory.PRETTY_PRINT, true);
 
@@ -53,8 +62,6 @@ public class PurchaseOrdersToEdifactMapper {
     writeInterchangeFooter(writer, ediFileConfig.getFileId(), messageCount);
     writer.endInterchange();
     writer.close();
-
-    return stream.toString();
   }
 
   public byte[] convertOrdersToEdifactArray(List<CompositePurchaseOrder> compPOs, VendorEdiOrdersExportConfig ediExportConfig, String jobName) throws EDIStreamException {
@@ -4,4 +4,8 @@ public class EdifactException extends RuntimeException {
   public EdifactException(String message) {
     super(message);
   }
+
+  public EdifactException(String message, Throwable cause) {
+    super(message, cause);
+  }
 }
@@ -0,0 +1,139 @@
+package org.folio.dew.batch.acquisitions.edifact.jobs;
+
+import static java.util.stream.Collectors.toMap;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.folio.dew.batch.acquisitions.edifact.services.OrdersService;
+import org.folio.dew.domain.dto.CompositePurchaseOrder;
+import org.folio.dew.domain.dto.PoLine;
+import org.folio.dew.domain.dto.PurchaseOrder;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Streams composite purchase orders page by page of purchase order lines. While the orders of one page
+ * are consumed, the next page of lines and its orders are already being fetched. Only the current page
+ * and the lines of the order continued on the next page are kept in memory.
+ */
+@Log4j2
+class CompositeOrdersIterator implements Iterator<CompositePurchaseOrder>, AutoCloseable {
+
+  private final OrdersService ordersService;
+  private final String poLineQuery;
+  private final Executor executor;
+  private final BiFunction<PurchaseOrder, List<PoLine>, CompositePurchaseOrder> assembler;
+
+  private final Deque<CompositePurchaseOrder> assembled = new ArrayDeque<>();
+  private CompletableFuture<Page> nextPage;
+  private String currentOrderId;
+  private PurchaseOrder currentOrder;
+  private List<PoLine> currentLines = new ArrayList<>();
+
+  CompositeOrdersIterator(OrdersService ordersService, String poLineQuery, Executor executor,
+                          BiFunction<PurchaseOrder, List<PoLine>, CompositePurchaseOrder> assembler) {
+    this.ordersService = ordersService;
+    this.poLineQuery = poLineQuery;
+    this.executor = executor;
+    this.assembler = assembler;
+    this.nextPage = fetchPage(null);
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (assembled.isEmpty() && nextPage != null) {
+      takeNextPage();
+    }
+    return !assembled.isEmpty();
+  }
+
+  @Override
+  public CompositePurchaseOrder next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return assembled.poll();
+  }
+
+  @Override
+  public void close() {
+    if (nextPage != null) {
+      nextPage.cancel(true);
+      nextPage = null;
+    }
+  }
+
+  private void takeNextPage() {
+    var page = await(nextPage);
+    if (page.lines().isEmpty()) {
+      nextPage = null;
+      completeCurrentOrder();
+      return;
+    }
+    nextPage = fetchPage(page.lines().get(page.lines().size() - 1));
+
+    for (PoLine line : page.lines()) {
+      if (!line.getPurchaseOrderId().equals(currentOrderId)) {
+        completeCurrentOrder();
+        currentOrderId = line.getPurchaseOrderId();
+        currentOrder = page.orders().get(currentOrderId);
+        currentLines = new ArrayList<>();
+      }
+      currentLines.add(line);
+    }
+    // lines of the last order on the page may continue on the next one
+  }
+
+  private void completeCurrentOrder() {
+    if (currentOrder != null) {
+      assembled.add(assembler.apply(currentOrder, currentLines));
+    } else if (currentOrderId != null) {
+      log.warn("Purchase order {} not found, skipping its {} lines", currentOrderId, currentLines.size());
+    }
+    currentOrderId = null;
+    currentOrder = null;
+    currentLines = new ArrayList<>();
+  }
+
+  private CompletableFuture<Page> fetchPage(PoLine lastLine) {
+    return CompletableFuture.supplyAsync(() -> {
+      var lines = ordersService.getPoLinesPage(poLineQuery, lastLine);
+      // the order of the previous page's last line is already loaded
+      var continuedOrderId = lastLine == null ? null : lastLine.getPurchaseOrderId();
+      var orderIds = lines.stream()
+        .map(PoLine::getPurchaseOrderId)
+        .filter(id -> !Objects.equals(id, continuedOrderId))
+        .distinct()
+        .toList();
+      Map<String, PurchaseOrder> orders = orderIds.isEmpty() ? Map.of() : ordersService.getPurchaseOrdersByIds(orderIds).stream()
+        .collect(toMap(PurchaseOrder::getId, Function.identity(), (first, second) -> first));
+      return new Page(lines, orders);
+    }, executor);
+  }
+
+  private static Page await(CompletableFuture<Page> page) {
+    try {
+      return page.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private record Page(List<PoLine> lines, Map<String, PurchaseOrder> orders) {
+  }
+}
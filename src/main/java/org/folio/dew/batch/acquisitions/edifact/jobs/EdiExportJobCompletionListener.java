@@ -15,8 +15,8 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.de.entity.Job;
 import org.folio.dew.batch.ExecutionContextUtils;
-import org.folio.dew.config.kafka.KafkaService;
 import org.folio.dew.domain.dto.JobParameterNames;
+import org.folio.dew.service.JobUpdatesPublisher;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.listener.JobExecutionListenerSupport;
 import org.springframework.stereotype.Component;
@@ -28,7 +28,7 @@ public class EdiExportJobCompletionListener extends JobExecutionListenerSupport
 
   private static final String PATHS_DELIMITER = ";";
 
-  private final KafkaService kafka;
+  private final JobUpdatesPublisher jobUpdatesPublisher;
 
   @Override
   public void beforeJob(JobExecution jobExecution) {
@@ -53,9 +53,11 @@ public class EdiExportJobCompletionListener extends JobExecutionListenerSupport
 
     var jobExecutionUpdate = createJobExecutionUpdate(jobId, jobExecution);
 
-    kafka.send(KafkaService.Topic.JOB_UPDATE, jobExecutionUpdate.getId().toString(), jobExecutionUpdate);
     if (after) {
+      jobUpdatesPublisher.publish(jobExecutionUpdate);
       log.info("-----------------------------JOB---ENDS-----------------------------");
+    } else {
+      jobUpdatesPublisher.publishStarted(jobExecutionUpdate);
     }
   }
 
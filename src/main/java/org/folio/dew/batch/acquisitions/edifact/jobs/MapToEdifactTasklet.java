@@ -1,13 +1,13 @@
 package org.folio.dew.batch.acquisitions.edifact.jobs;
 
-import static java.util.Objects.requireNonNullElse;
-import static java.util.stream.Collectors.groupingBy;
 import static org.folio.dew.domain.dto.JobParameterNames.EDIFACT_ORDERS_EXPORT;
+import static org.folio.dew.utils.Constants.EDIFACT_EXPORT_DIR_NAME;
+import static org.folio.dew.utils.Constants.getWorkingDirectory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -32,29 +32,52 @@ import org.folio.dew.domain.dto.ExportType;
 import org.folio.dew.domain.dto.PoLine;
 import org.folio.dew.domain.dto.PurchaseOrder;
 import org.folio.dew.domain.dto.VendorEdiOrdersExportConfig;
+import org.folio.dew.repository.LocalFilesStorage;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
-@RequiredArgsConstructor
 @Component
 @StepScope
 @Log4j2
 public class MapToEdifactTasklet implements Tasklet {
+  public static final String EDIFACT_FILE_PATH = "edifactFilePath";
+
   private final ObjectMapper ediObjectMapper;
 
   private final OrdersService ordersService;
   private final DataExportSpringClient dataExportSpringClient;
   private final PurchaseOrdersToEdifactMapper purchaseOrdersToEdifactMapper;
+  private final TaskExecutor prefetchExecutor;
+  private final LocalFilesStorage localFilesStorage;
+
+  @Value("${spring.application.name}")
+  protected String springApplicationName;
+
+  public MapToEdifactTasklet(ObjectMapper ediObjectMapper,
+                             OrdersService ordersService,
+                             DataExportSpringClient dataExportSpringClient,
+                             PurchaseOrdersToEdifactMapper purchaseOrdersToEdifactMapper,
+                             @Qualifier("edifactPrefetchExecutor") TaskExecutor prefetchExecutor,
+                             LocalFilesStorage localFilesStorage) {
+    this.ediObjectMapper = ediObjectMapper;
+    this.ordersService = ordersService;
+    this.dataExportSpringClient = dataExportSpringClient;
+    this.purchaseOrdersToEdifactMapper = purchaseOrdersToEdifactMapper;
+    this.prefetchExecutor = prefetchExecutor;
+    this.localFilesStorage = localFilesStorage;
+  }
 
   @Override
   public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
@@ -63,14 +86,25 @@ public class MapToEdifactTasklet implements Tasklet {
     var ediExportConfig = ediObjectMapper.readValue((String)jobParameters.get(EDIFACT_ORDERS_EXPORT), VendorEdiOrdersExportConfig.class);
     validateEdiExportConfig(ediExportConfig);
 
-    List<CompositePurchaseOrder> compOrders = getCompPOList(ediExportConfig);
-    // save poLineIds in memory
-    persistPoLineIds(chunkContext, compOrders);
-
     String jobName = jobParameters.get(JobParameterNames.JOB_NAME).toString();
-    String edifactOrderAsString = purchaseOrdersToEdifactMapper.convertOrdersToEdifact(compOrders, ediExportConfig, jobName);
-    // save edifact file content in memory
-    ExecutionContextUtils.addToJobExecutionContext(chunkContext.getStepContext().getStepExecution(), "edifactOrderAsString", edifactOrderAsString, "");
+    List<String> poLineIds = new ArrayList<>();
+    var edifactFilePath = getWorkingDirectory(springApplicationName, EDIFACT_EXPORT_DIR_NAME) + jobParameters.get(JobParameterNames.JOB_ID) + ".edi";
+    // orders are mapped page by page while the next page of lines and orders is being fetched,
+    // the file is written to the local storage as orders are mapped
+    try (var compOrders = new CompositeOrdersIterator(ordersService, buildPoLineQuery(ediExportConfig), prefetchExecutor,
+      (order, poLines) -> assembleCompositeOrder(order, poLines, poLineIds))) {
+      if (!compOrders.hasNext()) {
+        throw new OrderNotFoundException("Orders for export not found", false);
+      }
+      try (var output = localFilesStorage.newOutputStream(edifactFilePath)) {
+        purchaseOrdersToEdifactMapper.convertOrdersToEdifact(() -> compOrders, ediExportConfig, jobName, output);
+      }
+    }
+    log.info("Mapped {} purchase order lines to EDIFACT file {}", poLineIds.size(), edifactFilePath);
+    // save poLineIds in memory
+    persistPoLineIds(chunkContext, poLineIds);
+    // only the path of the edifact file is kept in the execution context
+    ExecutionContextUtils.addToJobExecutionContext(chunkContext.getStepContext().getStepExecution(), EDIFACT_FILE_PATH, edifactFilePath, "");
     return RepeatStatus.FINISHED;
   }
 
@@ -88,26 +122,6 @@ public class MapToEdifactTasklet implements Tasklet {
     }
   }
 
-  private List<CompositePurchaseOrder> getCompPOList(VendorEdiOrdersExportConfig ediConfig) {
-    var poLineQuery = buildPoLineQuery(ediConfig);
-    var poLines = ordersService.getPoLinesByQuery(poLineQuery);
-
-    var orderIds = poLines.stream()
-      .map(PoLine::getPurchaseOrderId)
-      .distinct()
-      .toList();
-    var orders = ordersService.getPurchaseOrdersByIds(orderIds);
-
-    var compOrders = assembleCompositeOrders(orders, poLines);
-
-    log.debug("composite purchase orders: {}", compOrders);
-
-    if (compOrders.isEmpty()) {
-      throw new OrderNotFoundException("Orders for export not found", false);
-    }
-    return compOrders;
-  }
-
   private String buildPoLineQuery(VendorEdiOrdersExportConfig ediConfig) {
     // Order filters
     var workflowStatusFilter = "purchaseOrder.workflowStatus==Open"; // order status is Open
@@ -153,11 +167,7 @@ public class MapToEdifactTasklet implements Tasklet {
     return accountNoSet;
   }
 
-  private void persistPoLineIds(ChunkContext chunkContext, List<CompositePurchaseOrder> compOrders) throws JsonProcessingException {
-    var polineIds = compOrders.stream()
-      .flatMap(ord -> ord.getCompositePoLines().stream())
-      .map(CompositePoLine::getId)
-      .toList();
+  private void persistPoLineIds(ChunkContext chunkContext, List<String> polineIds) throws JsonProcessingException {
     ExecutionContextUtils.addToJobExecutionContext(chunkContext.getStepContext().getStepExecution(),"polineIds", ediObjectMapper.writeValueAsString(polineIds),"");
   }
 
@@ -175,21 +185,19 @@ public class MapToEdifactTasklet implements Tasklet {
         .collect(Collectors.joining(" OR ", "(", ")")));
   }
 
-  private List<CompositePurchaseOrder> assembleCompositeOrders(List<PurchaseOrder> orders, List<PoLine> poLines) {
-    Map<String, List<CompositePoLine>> orderIdToCompositePoLines = poLines.stream()
+  private CompositePurchaseOrder assembleCompositeOrder(PurchaseOrder order, List<PoLine> poLines, List<String> poLineIds) {
+    var compPoLines = poLines.stream()
       .map(poLine -> convertTo(poLine, CompositePoLine.class))
-      .collect(groupingBy(CompositePoLine::getPurchaseOrderId));
-    return orders.stream()
-      .map(order -> convertTo(order, CompositePurchaseOrder.class))
-      .map(compPo -> compPo.compositePoLines(
-        requireNonNullElse(orderIdToCompositePoLines.get(compPo.getId().toString()), List.of())))
       .toList();
+    poLines.forEach(poLine -> poLineIds.add(poLine.getId()));
+    return convertTo(order, CompositePurchaseOrder.class).compositePoLines(compPoLines);
   }
 
   private <T> T convertTo(Object value, Class<T> c) {
+    // converted through a token buffer, the object is not written to and parsed back from JSON text
     try {
-      return ediObjectMapper.readValue(ediObjectMapper.writeValueAsString(value), c);
-    } catch (JsonProcessingException ex) {
+      return ediObjectMapper.convertValue(value, c);
+    } catch (IllegalArgumentException ex) {
       throw new CompositeOrderMappingException(String.format("%s for object %s", ex.getMessage(), value));
     }
   }
@@ -7,7 +7,6 @@ import static org.folio.dew.domain.dto.JobParameterNames.UPLOADED_FILE_PATH;
 import static org.folio.dew.utils.Constants.EDIFACT_EXPORT_DIR_NAME;
 import static org.folio.dew.utils.Constants.getWorkingDirectory;
 
-import java.nio.charset.StandardCharsets;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -55,13 +54,13 @@ public class SaveToMinioTasklet implements Tasklet {
     var stepExecution = chunkContext.getStepContext().getStepExecution();
     var jobParameters = chunkContext.getStepContext().getJobParameters();
     var ediExportConfig = ediObjectMapper.readValue((String)jobParameters.get(EDIFACT_ORDERS_EXPORT), VendorEdiOrdersExportConfig.class);
-    var edifactOrderAsString = (String) ExecutionContextUtils.getExecutionVariable(stepExecution,"edifactOrderAsString");
+    var edifactFilePath = (String) ExecutionContextUtils.getExecutionVariable(stepExecution, MapToEdifactTasklet.EDIFACT_FILE_PATH);
 
     var fullFilePath = buildFullFilePath(ediExportConfig);
     String edifactFileName = FilenameUtils.getName(fullFilePath);
     String uploadedFilePath;
     try {
-      uploadedFilePath = remoteFilesStorage.write(fullFilePath, edifactOrderAsString.getBytes(StandardCharsets.UTF_8));
+      uploadedFilePath = remoteFilesStorage.uploadObject(fullFilePath, edifactFilePath, null, null, true);
     }
     catch (Exception e) {
       log.error(REMOTE_STORAGE_ERROR_MESSAGE, e);
@@ -1,8 +1,16 @@
 package org.folio.dew.batch.acquisitions.edifact.services;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.dew.batch.acquisitions.edifact.exceptions.EdifactException;
+import org.folio.dew.config.properties.AcquisitionsJobProperties;
 import org.folio.dew.domain.dto.EdiFtp;
 import org.folio.dew.domain.dto.VendorEdiOrdersExportConfig;
 import org.folio.dew.repository.FTPObjectStorageRepository;
+import org.folio.dew.repository.ResumableInputSource;
 import org.folio.dew.repository.SFTPObjectStorageRepository;
 import org.springframework.stereotype.Service;
 
@@ -17,18 +25,39 @@ public class FTPStorageService {
 
   private final SFTPObjectStorageRepository sftpObjectStorageRepository;
   private final FTPObjectStorageRepository ftpObjectStorageRepository;
+  private final AcquisitionsJobProperties acquisitionsJobProperties;
+  private final Map<String, Semaphore> hostUploadSlots = new ConcurrentHashMap<>();
 
   public void uploadToFtp(VendorEdiOrdersExportConfig ediExportConfig, byte[] fileByteContent, String filename) throws Exception {
+    uploadToFtp(ediExportConfig, ResumableInputSource.of(fileByteContent), filename, false);
+  }
+
+  /**
+   * Streams the content to the vendor's FTP/SFTP endpoint.
+   *
+   * @param resume - continue the file left by an interrupted upload instead of overwriting it
+   */
+  public void uploadToFtp(VendorEdiOrdersExportConfig ediExportConfig, ResumableInputSource source, String filename, boolean resume) throws Exception {
     String username = ediExportConfig.getEdiFtp().getUsername();
     String folder = ediExportConfig.getEdiFtp().getOrderDirectory();
     String password = ediExportConfig.getEdiFtp().getPassword();
     String host = ediExportConfig.getEdiFtp().getServerAddress().replace(SFTP_PROTOCOL, "");
     int port = ediExportConfig.getEdiFtp().getFtpPort();
 
-    if (EdiFtp.FtpFormatEnum.SFTP.equals(ediExportConfig.getEdiFtp().getFtpFormat())) {
-      sftpObjectStorageRepository.upload(username, password, host, port, folder, filename, fileByteContent);
-    } else {
-      ftpObjectStorageRepository.upload(host, username, password, folder, filename, fileByteContent);
+    // vendors share a few hosts, so concurrent exports are limited per host rather than globally
+    var uploadSlots = hostUploadSlots.computeIfAbsent(host, h -> new Semaphore(acquisitionsJobProperties.getFtpUploadsPerHost(), true));
+    var waitTimeout = acquisitionsJobProperties.getFtpUploadWaitTimeout();
+    if (!uploadSlots.tryAcquire(waitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+      throw new EdifactException(String.format("No free upload slot for host %s within %s", host, waitTimeout));
+    }
+    try {
+      if (EdiFtp.FtpFormatEnum.SFTP.equals(ediExportConfig.getEdiFtp().getFtpFormat())) {
+        sftpObjectStorageRepository.upload(username, password, host, port, folder, filename, source, resume);
+      } else {
+        ftpObjectStorageRepository.upload(host, username, password, folder, filename, source, resume);
+      }
+    } finally {
+      uploadSlots.release();
     }
   }
 }
@@ -1,6 +1,7 @@
 package org.folio.dew.batch.acquisitions.edifact.services;
 
 import org.folio.dew.client.OrdersStorageClient;
+import org.folio.dew.config.properties.AcquisitionsJobProperties;
 import org.folio.dew.domain.dto.PoLine;
 import org.folio.dew.domain.dto.PurchaseOrder;
 import org.springframework.stereotype.Service;
@@ -18,27 +19,29 @@ import java.util.stream.IntStream;
 @RequiredArgsConstructor
 @Log4j2
 public class OrdersService {
-  private static final int CHUNK_SIZE = 50;
   private final OrdersStorageClient ordersStorageClient;
+  private final AcquisitionsJobProperties acquisitionsJobProperties;
 
-  public List<PoLine> getPoLinesByQuery(String query) {
-    log.debug("OrdersService.getPoLinesByQuery: {}", query);
-    var allLines = new ArrayList<PoLine>();
-    String lastId = null;
-    while (true) {
-      String modifiedQuery;
-      if (lastId == null)
-        modifiedQuery = String.format("%s AND cql.allRecords=1 sortBy id", query);
-      else
-        modifiedQuery = String.format("%s AND id > %s sortBy id", query, lastId);
-      var linesInChunk = ordersStorageClient.getPoLinesByQuery(modifiedQuery, 0, CHUNK_SIZE).getPoLines();
-      if (linesInChunk.isEmpty())
-        break;
-      allLines.addAll(linesInChunk);
-      lastId = linesInChunk.get(linesInChunk.size() - 1).getId();
-    }
-    log.debug("OrdersService.getPoLinesByQuery: returned {} lines", allLines.size());
-    return allLines;
+  /**
+   * Returns the page of purchase order lines matching the query which follows the given line.
+   * Lines are sorted by purchase order id and then by line id, so lines of one order come together
+   * and the next page is selected by the key of the last line instead of an offset.
+   *
+   * @param query    purchase order lines query
+   * @param lastLine last line of the previous page, {@code null} for the first page
+   * @return lines of the page, empty list when there are no more lines
+   */
+  public List<PoLine> getPoLinesPage(String query, PoLine lastLine) {
+    String modifiedQuery;
+    if (lastLine == null)
+      modifiedQuery = String.format("%s AND cql.allRecords=1 sortBy purchaseOrderId id", query);
+    else
+      modifiedQuery = String.format("%s AND (purchaseOrderId > %s OR (purchaseOrderId == %s AND id > %s)) sortBy purchaseOrderId id",
+        query, lastLine.getPurchaseOrderId(), lastLine.getPurchaseOrderId(), lastLine.getId());
+    log.debug("OrdersService.getPoLinesPage: {}", modifiedQuery);
+    var lines = ordersStorageClient.getPoLinesByQuery(modifiedQuery, 0, acquisitionsJobProperties.getPoLinesPageSize()).getPoLines();
+    log.debug("OrdersService.getPoLinesPage: returned {} lines", lines.size());
+    return lines;
   }
 
   public List<PurchaseOrder> getPurchaseOrdersByIds(List<String> orderIds) {
@@ -56,7 +59,7 @@ public class OrdersService {
   private <T> Collection<List<T>> partitionUsingChunkSize(List<T> inputList) {
     return IntStream.range(0, inputList.size())
       .boxed()
-      .collect(Collectors.groupingBy(partition -> partition / CHUNK_SIZE,
+      .collect(Collectors.groupingBy(partition -> partition / acquisitionsJobProperties.getOrdersChunkSize(),
         Collectors.mapping(inputList::get, Collectors.toList())))
       .values();
   }
@@ -4,17 +4,22 @@ import static org.folio.dew.utils.Constants.EDIFACT_EXPORT_DIR_NAME;
 import static org.folio.dew.utils.Constants.getWorkingDirectory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.folio.de.entity.Job;
 import org.folio.de.entity.JobCommand;
 import org.folio.dew.batch.acquisitions.edifact.exceptions.EdifactException;
-import org.folio.dew.config.kafka.KafkaService;
+import org.folio.dew.config.properties.AcquisitionsJobProperties;
 import org.folio.dew.domain.dto.ExportType;
 import org.folio.dew.domain.dto.ExportTypeSpecificParameters;
 import org.folio.dew.domain.dto.VendorEdiOrdersExportConfig;
 import org.folio.dew.repository.RemoteFilesStorage;
+import org.folio.dew.repository.ResumableInputSource;
+import org.folio.dew.service.JobUpdatesPublisher;
 import org.folio.spring.FolioExecutionContext;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
@@ -30,8 +35,9 @@ public class ResendService {
   private final RemoteFilesStorage remoteFilesStorage;
   private final FolioExecutionContext folioExecutionContext;
   private final FTPStorageService ftpStorageService;
-  private final KafkaService kafka;
+  private final JobUpdatesPublisher jobUpdatesPublisher;
   private final ObjectMapper ediObjectMapper;
+  private final AcquisitionsJobProperties acquisitionsJobProperties;
 
   private static final String EDIFACT_ORDERS_EXPORT_KEY = "EDIFACT_ORDERS_EXPORT";
   private static final String FILE_NAME_KEY = "FILE_NAME";
@@ -61,8 +67,7 @@ public class ResendService {
       String tenantName = folioExecutionContext.getTenantId();
       String path = String.format("%s%s/%s", workDir, tenantName, fileName);
 
-      byte[] exportFile = remoteFilesStorage.readAllBytes(path);
-      ftpStorageService.uploadToFtp(ediConfig, exportFile, fileName);
+      uploadWithRetries(ediConfig, path, fileName);
 
       ExportTypeSpecificParameters parameters = new ExportTypeSpecificParameters();
       parameters.setVendorEdiOrdersExportConfig(ediConfig);
@@ -76,10 +81,44 @@ public class ResendService {
       job.setBatchStatus(BatchStatus.FAILED);
       job.setExitStatus(ExitStatus.FAILED);
     } finally {
-      kafka.send(KafkaService.Topic.JOB_UPDATE, jobId.toString(), job);
+      jobUpdatesPublisher.publish(job);
     }
   }
 
+  private void uploadWithRetries(VendorEdiOrdersExportConfig ediConfig, String path, String fileName) throws Exception {
+    // the file is streamed from storage, so only the transfer buffer is held in memory
+    ResumableInputSource source = new ResumableInputSource() {
+      @Override
+      public InputStream open(long offset) throws IOException {
+        return remoteFilesStorage.newInputStream(path, offset);
+      }
+
+      @Override
+      public long size() throws IOException {
+        return remoteFilesStorage.size(path);
+      }
+    };
+    int attempts = acquisitionsJobProperties.getResendAttempts();
+    for (int attempt = 1; ; attempt++) {
+      try {
+        ftpStorageService.uploadToFtp(ediConfig, source, fileName, attempt > 1);
+        return;
+      } catch (Exception e) {
+        // only interrupted transfers are resumed, other failures such as an invalid configuration would repeat
+        if (attempt >= attempts || !isTransferFailure(e)) {
+          throw e;
+        }
+        log.warn("uploadWithRetries:: attempt {} of {} to resend {} failed, resuming: {}", attempt, attempts, fileName, e.getMessage());
+        Thread.sleep(acquisitionsJobProperties.getResendRetryDelay().toMillis());
+      }
+    }
+  }
+
+  private boolean isTransferFailure(Throwable t) {
+    // FTP replies and SSH failures are I/O exceptions, possibly wrapped by the repositories
+    return ExceptionUtils.indexOfType(t, IOException.class) != -1;
+  }
+
   private String getThrowableRootCauseDetails(Throwable t) {
     Throwable cause = t.getCause();
     while (cause != null && cause != t) {
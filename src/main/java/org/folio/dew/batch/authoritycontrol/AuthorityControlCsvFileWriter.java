@@ -1,12 +1,10 @@
 package org.folio.dew.batch.authoritycontrol;
 
-import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.folio.dew.utils.ExportFormatHelper.getHeaderLine;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.stream.Collectors;
 import org.folio.dew.domain.dto.authoritycontrol.exportformat.AuthorityControlExportFormat;
 import org.folio.dew.repository.LocalFilesStorage;
 import org.folio.dew.repository.S3CompatibleResource;
@@ -24,19 +22,34 @@ import org.springframework.util.ClassUtils;
 @Component
 @StepScope
 public class AuthorityControlCsvFileWriter extends AbstractFileItemWriter<AuthorityControlExportFormat> {
+  static final String NO_RECORDS_FOUND = "No records found";
+
   private final String headersLine;
   private final String tempOutputFilePath;
   private final LocalFilesStorage localFilesStorage;
+  private final boolean writeHeaders;
 
   public AuthorityControlCsvFileWriter(Class<? extends AuthorityControlExportFormat> exportFormatClass,
                                        @Value("#{jobParameters['tempOutputFilePath']}") String tempOutputFilePath,
                                        LocalFilesStorage localFilesStorage) {
+    this(exportFormatClass, tempOutputFilePath, localFilesStorage, true);
+  }
+
+  /**
+   * @param writeHeaders false for a part of the output, the headers and the empty report marker are written by
+   *                     {@link AuthorityControlPartsAssembler}
+   */
+  public AuthorityControlCsvFileWriter(Class<? extends AuthorityControlExportFormat> exportFormatClass,
+                                       String tempOutputFilePath,
+                                       LocalFilesStorage localFilesStorage,
+                                       boolean writeHeaders) {
     setResource(tempOutputFilePath);
 
     this.setExecutionContextName(ClassUtils.getShortName(exportFormatClass));
     this.headersLine = getHeaderLine(exportFormatClass, lineSeparator);
     this.tempOutputFilePath = tempOutputFilePath;
     this.localFilesStorage = localFilesStorage;
+    this.writeHeaders = writeHeaders;
   }
 
   @Override
@@ -48,14 +61,20 @@ public class AuthorityControlCsvFileWriter extends AbstractFileItemWriter<Author
 
   @BeforeStep
   public void beforeStep() throws IOException {
+    if (!writeHeaders) {
+      return;
+    }
     writeString(headersLine);
   }
 
   @AfterStep
   public void afterStep() throws IOException {
+    if (!writeHeaders) {
+      return;
+    }
     var lines = localFilesStorage.linesNumber(tempOutputFilePath, 2);
     if (lines.size() == 1) {
-      writeString("No records found");
+      writeString(NO_RECORDS_FOUND);
     }
   }
 
@@ -67,9 +86,12 @@ public class AuthorityControlCsvFileWriter extends AbstractFileItemWriter<Author
   @NotNull
   @Override
   protected String doWrite(Chunk<? extends AuthorityControlExportFormat> chunk) {
-    return chunk.getItems().stream()
-      .map(ExportFormatHelper::getItemRow)
-      .collect(Collectors.joining(lineSeparator, EMPTY, lineSeparator));
+    var sb = new StringBuilder();
+    for (var item : chunk) {
+      ExportFormatHelper.appendItemRow(sb, item);
+      sb.append(lineSeparator);
+    }
+    return sb.toString();
   }
 
   private void writeString(String str) throws IOException {
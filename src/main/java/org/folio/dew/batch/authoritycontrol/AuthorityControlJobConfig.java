@@ -28,6 +28,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Log4j2
@@ -60,37 +61,74 @@ public class AuthorityControlJobConfig {
   }
 
   @Bean("getAuthHeadingStep")
-  public Step getAuthHeadingStep(AuthUpdateHeadingsItemReader authUpdateHeadingsItemReader,
-                                 @Qualifier("authUpdateHeadingWriter") AuthorityControlCsvFileWriter writer,
+  public Step getAuthHeadingStep(@Qualifier("getAuthHeadingPartStep") Step getAuthHeadingPartStep,
+                                 AuthorityControlPartitioner authorityControlPartitioner,
+                                 @Qualifier("authorityControlPartitionExecutor") TaskExecutor taskExecutor,
                                  AuthorityControlStepListener authorityControlStepListener,
-                                 ItemProcessor<AuthorityDataStatDto, AuthUpdateHeadingExportFormat> authUpdateHeadingProcessor,
-                                 JobRepository jobRepository,
-                                 PlatformTransactionManager transactionManager) {
+                                 LocalFilesStorage localFilesStorage,
+                                 JobRepository jobRepository) {
     return new StepBuilder("getAuthHeadingStep", jobRepository)
+      .partitioner("getAuthHeadingPartStep", authorityControlPartitioner)
+      .taskExecutor(taskExecutor)
+      .step(getAuthHeadingPartStep)
+      .aggregator(new AuthorityControlPartsAssembler(AuthUpdateHeadingExportFormat.class, localFilesStorage))
+      .listener(authorityControlStepListener)
+      .build();
+  }
+
+  @Bean("getAuthHeadingPartStep")
+  public Step getAuthHeadingPartStep(AuthUpdateHeadingsItemReader authUpdateHeadingsItemReader,
+                                     @Qualifier("authUpdateHeadingWriter") AuthorityControlCsvFileWriter writer,
+                                     ItemProcessor<AuthorityDataStatDto, AuthUpdateHeadingExportFormat> authUpdateHeadingProcessor,
+                                     JobRepository jobRepository,
+                                     PlatformTransactionManager transactionManager) {
+    return new StepBuilder("getAuthHeadingPartStep", jobRepository)
       .<AuthorityDataStatDto, AuthUpdateHeadingExportFormat>chunk(jobProperties.getJobChunkSize(), transactionManager)
       .reader(authUpdateHeadingsItemReader)
       .processor(authUpdateHeadingProcessor)
       .writer(writer)
-      .listener(authorityControlStepListener)
       .build();
   }
 
   @Bean("getFailedLinkedBibStep")
-  public Step getFailedLinkedBibStep(LinkedBibUpdateItemReader linkedBibUpdateItemReader,
-                                     @Qualifier("failedLinkedBibWriter") AuthorityControlCsvFileWriter writer,
+  public Step getFailedLinkedBibStep(@Qualifier("getFailedLinkedBibPartStep") Step getFailedLinkedBibPartStep,
+                                     AuthorityControlPartitioner authorityControlPartitioner,
+                                     @Qualifier("authorityControlPartitionExecutor") TaskExecutor taskExecutor,
                                      AuthorityControlStepListener authorityControlStepListener,
-                                     ItemProcessor<InstanceDataStatDto, FailedLinkedBibExportFormat> failedLinkedBibProcessor,
-                                     JobRepository jobRepository,
-                                     PlatformTransactionManager transactionManager) {
+                                     LocalFilesStorage localFilesStorage,
+                                     JobRepository jobRepository) {
     return new StepBuilder("getFailedLinkedBibStep", jobRepository)
+      .partitioner("getFailedLinkedBibPartStep", authorityControlPartitioner)
+      .taskExecutor(taskExecutor)
+      .step(getFailedLinkedBibPartStep)
+      .aggregator(new AuthorityControlPartsAssembler(FailedLinkedBibExportFormat.class, localFilesStorage))
+      .listener(authorityControlStepListener)
+      .build();
+  }
+
+  @Bean("getFailedLinkedBibPartStep")
+  public Step getFailedLinkedBibPartStep(LinkedBibUpdateItemReader linkedBibUpdateItemReader,
+                                         @Qualifier("failedLinkedBibWriter") AuthorityControlCsvFileWriter writer,
+                                         ItemProcessor<InstanceDataStatDto, FailedLinkedBibExportFormat> failedLinkedBibProcessor,
+                                         JobRepository jobRepository,
+                                         PlatformTransactionManager transactionManager) {
+    return new StepBuilder("getFailedLinkedBibPartStep", jobRepository)
       .<InstanceDataStatDto, FailedLinkedBibExportFormat>chunk(jobProperties.getJobChunkSize(), transactionManager)
       .reader(linkedBibUpdateItemReader)
       .processor(failedLinkedBibProcessor)
       .writer(writer)
-      .listener(authorityControlStepListener)
       .build();
   }
 
+  @Bean
+  @StepScope
+  public AuthorityControlPartitioner authorityControlPartitioner(
+    @Qualifier("authorityControlExportConfig") AuthorityControlExportConfig exportConfig,
+    @Value("#{jobParameters['tempOutputFilePath']}") String tempOutputFilePath) {
+    return new AuthorityControlPartitioner(exportConfig.getFromDate(), exportConfig.getToDate(),
+      jobProperties.getPartitionWindowDays(), tempOutputFilePath);
+  }
+
   @Bean("authUpdateHeadingProcessor")
   public ItemProcessor<AuthorityDataStatDto, AuthUpdateHeadingExportFormat> authUpdateHeadingProcessor(
     AuthorityControlToExportFormatMapper mapper) {
@@ -106,16 +144,19 @@ public class AuthorityControlJobConfig {
   @StepScope
   @Bean("authUpdateHeadingWriter")
   public AuthorityControlCsvFileWriter authUpdateHeadingWriter(
-    @Value("#{jobParameters['tempOutputFilePath']}") String tempOutputFilePath, LocalFilesStorage localFilesStorage) {
+    @Value("#{stepExecutionContext['tempOutputFilePath']}") String tempOutputFilePath,
+    LocalFilesStorage localFilesStorage) {
     return new AuthorityControlCsvFileWriter(AuthUpdateHeadingExportFormat.class, tempOutputFilePath,
-      localFilesStorage);
+      localFilesStorage, false);
   }
 
   @StepScope
   @Bean("failedLinkedBibWriter")
   public AuthorityControlCsvFileWriter failedLinkedBibWriter(
-    @Value("#{jobParameters['tempOutputFilePath']}") String tempOutputFilePath, LocalFilesStorage localFilesStorage) {
-    return new AuthorityControlCsvFileWriter(FailedLinkedBibExportFormat.class, tempOutputFilePath, localFilesStorage);
+    @Value("#{stepExecutionContext['tempOutputFilePath']}") String tempOutputFilePath,
+    LocalFilesStorage localFilesStorage) {
+    return new AuthorityControlCsvFileWriter(FailedLinkedBibExportFormat.class, tempOutputFilePath,
+      localFilesStorage, false);
   }
 
   @JobScope
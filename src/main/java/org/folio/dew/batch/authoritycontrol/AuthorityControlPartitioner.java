@@ -0,0 +1,77 @@
+package org.folio.dew.batch.authoritycontrol;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+import org.folio.dew.domain.dto.JobParameterNames;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * Splits the requested date range into disjoint windows of whole days. Entities links stats are returned
+ * from the latest to the earliest, so partition 0 holds the latest window and parts are assembled by partition number.
+ */
+@Log4j2
+public class AuthorityControlPartitioner implements Partitioner {
+
+  public static final String FROM_DATE = "fromDate";
+  public static final String TO_DATE = "toDate";
+  public static final String PARTITION = "partition";
+
+  private final LocalDate fromDate;
+  private final LocalDate toDate;
+  private final int windowDays;
+  private final String tempOutputFilePath;
+
+  public AuthorityControlPartitioner(LocalDate fromDate, LocalDate toDate, int windowDays, String tempOutputFilePath) {
+    this.fromDate = fromDate;
+    this.toDate = toDate;
+    this.windowDays = windowDays;
+    this.tempOutputFilePath = tempOutputFilePath;
+  }
+
+  @Override
+  public Map<String, ExecutionContext> partition(int gridSize) {
+    Map<String, ExecutionContext> result = new LinkedHashMap<>();
+    if (fromDate == null || toDate == null || windowDays <= 0 || DAYS.between(fromDate, toDate) < windowDays) {
+      result.put(partitionName(0), executionContext(0, fromDate, toDate));
+      return result;
+    }
+
+    var partition = 0;
+    var windowTo = toDate;
+    while (!windowTo.isBefore(fromDate)) {
+      var windowFrom = windowTo.minusDays(windowDays - 1L);
+      if (windowFrom.isBefore(fromDate)) {
+        windowFrom = fromDate;
+      }
+      result.put(partitionName(partition), executionContext(partition, windowFrom, windowTo));
+      windowTo = windowFrom.minusDays(1);
+      partition++;
+    }
+    return result;
+  }
+
+  private ExecutionContext executionContext(int partition, LocalDate windowFrom, LocalDate windowTo) {
+    var partFilePath = String.format("%s_%d.tmp", tempOutputFilePath, partition);
+    var executionContext = new ExecutionContext();
+    executionContext.putInt(PARTITION, partition);
+    if (windowFrom != null) {
+      executionContext.putString(FROM_DATE, windowFrom.toString());
+    }
+    if (windowTo != null) {
+      executionContext.putString(TO_DATE, windowTo.toString());
+    }
+    executionContext.putString(JobParameterNames.TEMP_OUTPUT_FILE_PATH, partFilePath);
+    log.info("Partition {}: fromDate {}, toDate {}, tempOutputFilePath {}.", partition, windowFrom, windowTo,
+      partFilePath);
+    return executionContext;
+  }
+
+  private static String partitionName(int partition) {
+    return "Partition_" + partition;
+  }
+}
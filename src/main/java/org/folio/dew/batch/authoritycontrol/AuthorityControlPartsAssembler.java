@@ -0,0 +1,71 @@
+package org.folio.dew.batch.authoritycontrol;
+
+import static org.folio.dew.batch.authoritycontrol.AuthorityControlCsvFileWriter.NO_RECORDS_FOUND;
+import static org.folio.dew.utils.ExportFormatHelper.getHeaderLine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Comparator;
+import lombok.extern.log4j.Log4j2;
+import org.folio.dew.domain.dto.JobParameterNames;
+import org.folio.dew.domain.dto.authoritycontrol.exportformat.AuthorityControlExportFormat;
+import org.folio.dew.repository.LocalFilesStorage;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.partition.support.DefaultStepExecutionAggregator;
+import org.springframework.batch.core.partition.support.StepExecutionAggregator;
+
+/**
+ * Concatenates the part files of {@link AuthorityControlPartitioner} windows in partition order into the job
+ * output file, so the result is the same as the one written by a single reader over the whole range.
+ */
+@Log4j2
+public class AuthorityControlPartsAssembler implements StepExecutionAggregator {
+
+  private final StepExecutionAggregator delegate = new DefaultStepExecutionAggregator();
+  private final String headersLine;
+  private final LocalFilesStorage localFilesStorage;
+
+  public AuthorityControlPartsAssembler(Class<? extends AuthorityControlExportFormat> exportFormatClass,
+                                        LocalFilesStorage localFilesStorage) {
+    this.headersLine = getHeaderLine(exportFormatClass, System.lineSeparator());
+    this.localFilesStorage = localFilesStorage;
+  }
+
+  @Override
+  public void aggregate(StepExecution stepExecution, Collection<StepExecution> finishedStepExecutions) {
+    delegate.aggregate(stepExecution, finishedStepExecutions);
+    if (stepExecution.getStatus().isGreaterThan(BatchStatus.STARTED)) {
+      return;
+    }
+
+    var outputFilePath = stepExecution.getJobParameters().getString(JobParameterNames.TEMP_OUTPUT_FILE_PATH);
+    var partFilePaths = finishedStepExecutions.stream()
+      .sorted(Comparator.comparingInt(e -> e.getExecutionContext().getInt(AuthorityControlPartitioner.PARTITION)))
+      .map(e -> e.getExecutionContext().getString(JobParameterNames.TEMP_OUTPUT_FILE_PATH))
+      .toList();
+    // parts are copied through one stream, so no part is held in memory as a whole
+    try (var output = localFilesStorage.newOutputStream(outputFilePath)) {
+      output.write(headersLine.getBytes(StandardCharsets.UTF_8));
+      var empty = true;
+      for (var partFilePath : partFilePaths) {
+        if (localFilesStorage.notExists(partFilePath)) {
+          continue;
+        }
+        try (var part = localFilesStorage.newInputStream(partFilePath)) {
+          if (part.transferTo(output) > 0) {
+            empty = false;
+          }
+        }
+      }
+      if (empty) {
+        output.write(NO_RECORDS_FOUND.getBytes(StandardCharsets.UTF_8));
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot assemble " + outputFilePath, e);
+    }
+    partFilePaths.forEach(localFilesStorage::delete);
+    log.info("Assembled {} parts into {}", partFilePaths.size(), outputFilePath);
+  }
+}
@@ -4,10 +4,10 @@ import static org.folio.dew.domain.dto.authority.control.AuthorityDataStatDto.Ac
 
 import org.folio.dew.client.EntitiesLinksStatsClient;
 import org.folio.dew.config.properties.AuthorityControlJobProperties;
-import org.folio.dew.domain.dto.authority.control.AuthorityControlExportConfig;
 import org.folio.dew.domain.dto.authority.control.AuthorityDataStatDto;
 import org.folio.dew.domain.dto.authority.control.AuthorityDataStatDtoCollection;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @StepScope
@@ -15,9 +15,10 @@ import org.springframework.stereotype.Component;
 public class AuthUpdateHeadingsItemReader extends AuthorityControlItemReader<AuthorityDataStatDto> {
 
   public AuthUpdateHeadingsItemReader(EntitiesLinksStatsClient entitiesLinksStatsClient,
-                                      AuthorityControlExportConfig exportConfig,
+                                      @Value("#{stepExecutionContext['fromDate']}") String fromDate,
+                                      @Value("#{stepExecutionContext['toDate']}") String toDate,
                                       AuthorityControlJobProperties jobProperties) {
-    super(entitiesLinksStatsClient, exportConfig, jobProperties);
+    super(entitiesLinksStatsClient, parseDate(fromDate), parseDate(toDate), jobProperties);
   }
 
   @Override
@@ -1,5 +1,6 @@
 package org.folio.dew.batch.authoritycontrol.readers;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
@@ -8,7 +9,6 @@ import java.util.Objects;
 import java.util.UUID;
 import org.folio.dew.client.EntitiesLinksStatsClient;
 import org.folio.dew.config.properties.AuthorityControlJobProperties;
-import org.folio.dew.domain.dto.authority.control.AuthorityControlExportConfig;
 import org.folio.dew.domain.dto.authoritycontrol.DataStatCollectionDTO;
 import org.folio.dew.domain.dto.authoritycontrol.DataStatDTO;
 import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
@@ -22,14 +22,17 @@ public abstract class AuthorityControlItemReader<T extends DataStatDTO>
   private int currentChunkOffset;
   private List<T> currentChunk;
 
+  /**
+   * Reads stats of a date window, bounds are inclusive whole days.
+   */
   protected AuthorityControlItemReader(EntitiesLinksStatsClient entitiesLinksStatsClient,
-                                       AuthorityControlExportConfig exportConfig,
+                                       LocalDate fromDate, LocalDate toDate,
                                        AuthorityControlJobProperties jobProperties) {
-    if (exportConfig.getFromDate() != null) {
-      this.fromDate = OffsetDateTime.of(exportConfig.getFromDate(), LocalTime.MIN, ZoneOffset.UTC);
+    if (fromDate != null) {
+      this.fromDate = OffsetDateTime.of(fromDate, LocalTime.MIN, ZoneOffset.UTC);
     }
-    if (exportConfig.getToDate() != null) {
-      this.toDate = OffsetDateTime.of(exportConfig.getToDate(), LocalTime.MAX, ZoneOffset.UTC);
+    if (toDate != null) {
+      this.toDate = OffsetDateTime.of(toDate, LocalTime.MAX, ZoneOffset.UTC);
     }
     this.entitiesLinksStatsClient = entitiesLinksStatsClient;
     this.limit = jobProperties.getEntitiesLinksChunkSize();
@@ -60,6 +63,10 @@ public abstract class AuthorityControlItemReader<T extends DataStatDTO>
 
   protected abstract DataStatCollectionDTO getCollection(int limit);
 
+  protected static LocalDate parseDate(String date) {
+    return Objects.isNull(date) ? null : LocalDate.parse(date);
+  }
+
   protected String fromDate() {
     return Objects.isNull(fromDate) ? null : fromDate.toString();
   }
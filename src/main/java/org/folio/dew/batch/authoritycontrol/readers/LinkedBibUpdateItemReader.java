@@ -3,10 +3,10 @@ package org.folio.dew.batch.authoritycontrol.readers;
 import org.folio.dew.client.EntitiesLinksStatsClient;
 import org.folio.dew.client.EntitiesLinksStatsClient.LinkStatus;
 import org.folio.dew.config.properties.AuthorityControlJobProperties;
-import org.folio.dew.domain.dto.authority.control.AuthorityControlExportConfig;
 import org.folio.dew.domain.dto.authority.control.InstanceDataStatDto;
 import org.folio.dew.domain.dto.authority.control.InstanceDataStatDtoCollection;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @StepScope
@@ -14,9 +14,10 @@ import org.springframework.stereotype.Component;
 public class LinkedBibUpdateItemReader extends AuthorityControlItemReader<InstanceDataStatDto> {
 
   public LinkedBibUpdateItemReader(EntitiesLinksStatsClient entitiesLinksStatsClient,
-                                   AuthorityControlExportConfig exportConfig,
+                                   @Value("#{stepExecutionContext['fromDate']}") String fromDate,
+                                   @Value("#{stepExecutionContext['toDate']}") String toDate,
                                    AuthorityControlJobProperties jobProperties) {
-    super(entitiesLinksStatsClient, exportConfig, jobProperties);
+    super(entitiesLinksStatsClient, parseDate(fromDate), parseDate(toDate), jobProperties);
   }
 
   @Override
@@ -9,11 +9,11 @@ import static org.folio.dew.utils.Constants.TOTAL_CSV_LINES;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.de.entity.Job;
-import org.folio.dew.config.kafka.KafkaService;
 import org.folio.dew.domain.dto.EntityType;
 import org.folio.dew.domain.dto.ExportType;
 import org.folio.dew.domain.dto.Progress;
 import org.folio.dew.service.BulkEditStatisticService;
+import org.folio.dew.service.JobUpdatesPublisher;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.JobExecution;
@@ -32,7 +32,7 @@ import java.util.concurrent.atomic.AtomicLong;
 @RequiredArgsConstructor
 @Log4j2
 public class IdentifiersWriteListener<T> implements ItemWriteListener<T> {
-  private final KafkaService kafka;
+  private final JobUpdatesPublisher jobUpdatesPublisher;
 
   @Value("#{stepExecution.jobExecution}")
   private JobExecution jobExecution;
@@ -76,7 +76,7 @@ public class IdentifiersWriteListener<T> implements ItemWriteListener<T> {
 
     jobExecution.getExecutionContext().putLong(NUMBER_OF_WRITTEN_RECORDS, processedRecords.longValue());
 
-    kafka.send(KafkaService.Topic.JOB_UPDATE, job.getId().toString(), job);
+    jobUpdatesPublisher.publish(job);
   }
 
   private int calculateProgress(long processed, long total) {
@@ -0,0 +1,70 @@
+package org.folio.dew.batch.eholdings;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.collections4.ListUtils;
+import org.folio.dew.domain.dto.eholdings.EHoldingsResourceDTO;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.item.Chunk;
+
+/**
+ * Enriches a whole chunk of resources before it is written, querying the related records
+ * for up to {@link #IDS_PER_REQUEST} resources at once instead of one request per resource.
+ *
+ * @param <T> type of the related records
+ */
+public abstract class AbstractEHoldingsResourceWriteListener<T> implements ItemWriteListener<EHoldingsResourceDTO> {
+
+  static final int IDS_PER_REQUEST = 50;
+
+  private final boolean enabled;
+
+  protected AbstractEHoldingsResourceWriteListener(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  @Override
+  public void beforeWrite(@NotNull Chunk<? extends EHoldingsResourceDTO> items) {
+    if (!enabled || items.isEmpty()) {
+      return;
+    }
+    Map<String, List<EHoldingsResourceDTO>> resourcesById = items.getItems().stream()
+      .collect(Collectors.groupingBy(AbstractEHoldingsResourceWriteListener::getResourceId, LinkedHashMap::new,
+        Collectors.toList()));
+
+    for (var ids : ListUtils.partition(new ArrayList<>(resourcesById.keySet()), IDS_PER_REQUEST)) {
+      var idsSet = Set.copyOf(ids);
+      var recordsByResourceId = new LinkedHashMap<String, List<T>>();
+      for (var relatedRecord : load(idsSet)) {
+        getResourceIds(relatedRecord).stream()
+          .filter(idsSet::contains)
+          .distinct()
+          .forEach(id -> recordsByResourceId.computeIfAbsent(id, k -> new ArrayList<>()).add(relatedRecord));
+      }
+      recordsByResourceId.forEach((id, records) ->
+        resourcesById.get(id).forEach(resource -> assign(resource, records)));
+    }
+  }
+
+  /**
+   * Loads the records related to any of the given resources, in the order they should be exported.
+   */
+  protected abstract List<T> load(Set<String> resourceIds);
+
+  /**
+   * Returns ids of the resources the record is related to.
+   */
+  protected abstract List<String> getResourceIds(T relatedRecord);
+
+  protected abstract void assign(EHoldingsResourceDTO resource, List<T> relatedRecords);
+
+  private static String getResourceId(EHoldingsResourceDTO resource) {
+    var attributes = resource.getResourcesData().getAttributes();
+    return attributes.getPackageId() + "-" + attributes.getTitleId();
+  }
+}
@@ -0,0 +1,81 @@
+package org.folio.dew.batch.eholdings;
+
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.LOAD_FIELD_TITLE_AGREEMENTS;
+import static org.folio.dew.client.AgreementClient.getFiltersParam;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.log4j.Log4j2;
+import org.folio.dew.client.AgreementClient;
+import org.folio.dew.client.AgreementClient.Agreement;
+import org.folio.dew.client.AgreementClient.AgreementItem;
+import org.folio.dew.domain.dto.EHoldingsExportConfig;
+import org.folio.dew.domain.dto.eholdings.EHoldingsResourceDTO;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+@StepScope
+public class EHoldingsAgreementWriteListener extends AbstractEHoldingsResourceWriteListener<Agreement> {
+
+  static final int AGREEMENTS_PER_PAGE = 100;
+
+  private final AgreementClient agreementClient;
+
+  public EHoldingsAgreementWriteListener(AgreementClient agreementClient,
+                                         EHoldingsExportConfig exportConfig) {
+    super(exportConfig.getTitleFields() != null
+      && exportConfig.getTitleFields().contains(LOAD_FIELD_TITLE_AGREEMENTS));
+    this.agreementClient = agreementClient;
+  }
+
+  @Override
+  protected List<Agreement> load(Set<String> resourceIds) {
+    var agreements = loadAllPages(getFiltersParam(resourceIds));
+    if (agreements.stream().allMatch(agreement -> !getResourceIds(agreement).isEmpty())) {
+      return agreements;
+    }
+    // agreements do not tell which resources they were matched by, so they are requested resource by resource
+    log.warn("Agreements of {} resources have no item references, loading them per resource.", resourceIds.size());
+    var result = new ArrayList<Agreement>();
+    for (var resourceId : resourceIds) {
+      var resourceAgreements = resourceIds.size() == 1 ? agreements : loadAllPages(getFiltersParam(resourceId));
+      resourceAgreements.forEach(agreement -> result.add(withReference(agreement, resourceId)));
+    }
+    return result;
+  }
+
+  @Override
+  protected List<String> getResourceIds(Agreement agreement) {
+    return agreement.getItems() == null ? List.of() : agreement.getItems().stream()
+      .map(AgreementItem::getReference)
+      .filter(Objects::nonNull)
+      .toList();
+  }
+
+  @Override
+  protected void assign(EHoldingsResourceDTO resource, List<Agreement> agreements) {
+    resource.setAgreements(agreements);
+  }
+
+  private List<Agreement> loadAllPages(String filters) {
+    var agreements = new ArrayList<Agreement>();
+    for (int page = 1; ; page++) {
+      var agreementsPage = agreementClient.getAssignedAgreements(filters, AGREEMENTS_PER_PAGE, page);
+      agreements.addAll(agreementsPage);
+      if (agreementsPage.size() < AGREEMENTS_PER_PAGE) {
+        return agreements;
+      }
+    }
+  }
+
+  private Agreement withReference(Agreement agreement, String resourceId) {
+    var item = new AgreementItem();
+    item.setReference(resourceId);
+    agreement.setItems(List.of(item));
+    return agreement;
+  }
+}
@@ -21,17 +21,21 @@ public class EHoldingsCleanupTasklet implements Tasklet, StepExecutionListener {
 
   private final EHoldingsPackageRepository packageRepository;
   private final EHoldingsResourceRepository resourceRepository;
+  private final EHoldingsOrphansSweeper orphansSweeper;
 
   public EHoldingsCleanupTasklet(EHoldingsPackageRepository packageRepository,
-                                 EHoldingsResourceRepository resourceRepository) {
+                                 EHoldingsResourceRepository resourceRepository,
+                                 EHoldingsOrphansSweeper orphansSweeper) {
     this.packageRepository = packageRepository;
     this.resourceRepository = resourceRepository;
+    this.orphansSweeper = orphansSweeper;
   }
 
   @Override
   public RepeatStatus execute(@NotNull StepContribution stepContribution, @NotNull ChunkContext chunkContext) {
     packageRepository.deleteAllByJobExecutionId(jobId);
     resourceRepository.deleteAllByJobExecutionId(jobId);
+    orphansSweeper.sweepIfDue();
     return RepeatStatus.FINISHED;
   }
 
@@ -5,11 +5,17 @@ import static org.folio.dew.client.KbEbscoClient.ACCESS_TYPE;
 import static org.folio.dew.domain.dto.EHoldingsExportConfig.RecordTypeEnum.PACKAGE;
 import static org.folio.dew.domain.dto.EHoldingsExportConfig.RecordTypeEnum.RESOURCE;
 
+import feign.FeignException;
 import java.math.BigInteger;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections.CollectionUtils;
 import org.folio.dew.client.KbEbscoClient;
 import org.folio.dew.config.properties.EHoldingsJobProperties;
@@ -19,8 +25,11 @@ import org.folio.dew.domain.dto.eholdings.EHoldingsResourceDTO;
 import org.folio.dew.domain.dto.eholdings.ResourcesData;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
+@Log4j2
 @Component
 @StepScope
 public class EHoldingsItemReader extends AbstractItemCountingItemStreamItemReader<EHoldingsResourceDTO> {
@@ -29,10 +38,19 @@ public class EHoldingsItemReader extends AbstractItemCountingItemStreamItemReade
 
   private int limit;
   private int page;
+  private int totalCount;
+  private int scheduledCount;
 
   private List<EHoldingsResourceDTO> currentChunk;
   private int currentChunkOffset;
 
+  private final int prefetchPages;
+  private final int rateLimitAttempts;
+  private final long rateLimitBackoffMs;
+  private final Deque<CompletableFuture<List<EHoldingsResourceDTO>>> pendingPages = new ArrayDeque<>();
+  private final TaskExecutor prefetchExecutor;
+  private boolean prefetchEnabled;
+
   private final KbEbscoClient kbEbscoClient;
   private final RecordTypeEnum recordType;
   private final List<String> titleFields;
@@ -40,15 +58,20 @@ public class EHoldingsItemReader extends AbstractItemCountingItemStreamItemReade
   private final String recordId;
 
   protected EHoldingsItemReader(KbEbscoClient kbEbscoClient, EHoldingsExportConfig exportConfig,
-                                EHoldingsJobProperties jobProperties) {
+                                EHoldingsJobProperties jobProperties,
+                                @Qualifier("eHoldingsPrefetchExecutor") TaskExecutor prefetchExecutor) {
     this.page = 1;
     this.limit = jobProperties.getKbEbscoChunkSize();
+    this.prefetchPages = jobProperties.getKbEbscoPrefetchPages();
+    this.rateLimitAttempts = jobProperties.getKbEbscoRateLimitAttempts();
+    this.rateLimitBackoffMs = jobProperties.getKbEbscoRateLimitBackoffMs();
 
     setCurrentItemCount(0);
     setSaveState(false);
     setExecutionContextName(getClass().getSimpleName() + '_' + UUID.randomUUID());
 
     this.kbEbscoClient = kbEbscoClient;
+    this.prefetchExecutor = prefetchExecutor;
     this.recordId = exportConfig.getRecordId();
     this.recordType = exportConfig.getRecordType();
     this.titleFields = exportConfig.getTitleFields();
@@ -58,8 +81,7 @@ public class EHoldingsItemReader extends AbstractItemCountingItemStreamItemReade
   @Override
   protected EHoldingsResourceDTO doRead() {
     if (currentChunk == null || currentChunkOffset >= currentChunk.size()) {
-      currentChunk = getItems(page, limit);
-      updatePaging();
+      currentChunk = nextChunk();
       currentChunkOffset = 0;
     }
 
@@ -73,6 +95,66 @@ public class EHoldingsItemReader extends AbstractItemCountingItemStreamItemReade
     return item;
   }
 
+  /**
+   * Takes the next page in page order. With read-ahead enabled keeps up to prefetchPages further pages in flight,
+   * never scheduling pages beyond the total count.
+   */
+  private List<EHoldingsResourceDTO> nextChunk() {
+    if (!prefetchEnabled) {
+      var items = getItemsWithBackoff(page, limit);
+      updatePaging();
+      return items;
+    }
+
+    while (pendingPages.size() <= prefetchPages && scheduledCount < totalCount) {
+      var itemPage = page;
+      var itemLimit = limit;
+      pendingPages.addLast(CompletableFuture.supplyAsync(() -> getItemsWithBackoff(itemPage, itemLimit), prefetchExecutor));
+      scheduledCount += itemLimit;
+      updatePaging();
+    }
+
+    var nextPage = pendingPages.pollFirst();
+    if (nextPage == null) {
+      return Collections.emptyList();
+    }
+    try {
+      return nextPage.join();
+    } catch (CompletionException e) {
+      cancelPendingPages();
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private List<EHoldingsResourceDTO> getItemsWithBackoff(int itemPage, int itemLimit) {
+    var backoff = rateLimitBackoffMs;
+    for (var attempt = 1; ; attempt++) {
+      try {
+        return getItems(itemPage, itemLimit);
+      } catch (FeignException.TooManyRequests e) {
+        if (attempt >= rateLimitAttempts) {
+          throw e;
+        }
+        log.warn("Kb ebsco rate limit reached on page {}, retrying in {} ms (attempt {} of {})",
+          itemPage, backoff, attempt, rateLimitAttempts);
+        sleep(backoff);
+        backoff *= 2;
+      }
+    }
+  }
+
+  private void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for kb ebsco rate limit", e);
+    }
+  }
+
   protected List<EHoldingsResourceDTO> getItems(int itemPage, int itemLimit) {
     if (recordType == RESOURCE) {
       var resourceById = kbEbscoClient.getResourceById(recordId, ACCESS_TYPE);
@@ -95,12 +177,23 @@ public class EHoldingsItemReader extends AbstractItemCountingItemStreamItemReade
 
   @Override
   protected void doOpen() {
-    setMaxItemCount(getTotalCount());
+    totalCount = getTotalCount();
+    setMaxItemCount(totalCount);
+    prefetchEnabled = prefetchPages > 0 && totalCount > limit;
+    if (prefetchEnabled) {
+      log.debug("Reading kb ebsco pages with read-ahead of {} pages", prefetchPages);
+    }
   }
 
   @Override
   protected void doClose() throws Exception {
-    // Nothing to do
+    cancelPendingPages();
+    prefetchEnabled = false;
+  }
+
+  private void cancelPendingPages() {
+    pendingPages.forEach(pendingPage -> pendingPage.cancel(true));
+    pendingPages.clear();
   }
 
   private int getTotalCount() {
@@ -20,15 +20,12 @@ import org.springframework.batch.core.listener.ExecutionContextPromotionListener
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.support.CompositeItemProcessor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.util.List;
-
 import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.CONTEXT_MAX_PACKAGE_NOTES_COUNT;
 import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.CONTEXT_MAX_TITLE_NOTES_COUNT;
 
@@ -72,21 +69,20 @@ public class EHoldingsJobConfig {
   }
 
   @Bean("getEHoldingsStep")
-  public Step getEHoldingsStep(@Qualifier("eHoldingsItemProcessor")
-                               ItemProcessor<EHoldingsResourceDTO, EHoldingsResourceDTO> processor,
-                               @Qualifier("getEHoldingsPromotionListener")
+  public Step getEHoldingsStep(@Qualifier("getEHoldingsPromotionListener")
                                ExecutionContextPromotionListener getEHoldingsPromotionListener,
                                EHoldingsItemReader eHoldingsItemReader,
                                GetEHoldingsWriter getEHoldingsWriter,
-                               EHoldingsNoteItemProcessor eHoldingsNoteItemProcessor,
+                               EHoldingsNoteWriteListener eHoldingsNoteWriteListener,
+                               EHoldingsAgreementWriteListener eHoldingsAgreementWriteListener,
                                JobRepository jobRepository,
                                PlatformTransactionManager transactionManager) {
     return new StepBuilder("getEHoldingsStep", jobRepository)
       .<EHoldingsResourceDTO, EHoldingsResourceDTO>chunk(jobProperties.getJobChunkSize(), transactionManager)
       .reader(eHoldingsItemReader)
-      .processor(processor)
       .writer(getEHoldingsWriter)
-      .listener(eHoldingsNoteItemProcessor)
+      .listener(eHoldingsNoteWriteListener)
+      .listener(eHoldingsAgreementWriteListener)
       .listener(getEHoldingsPromotionListener)
       .build();
   }
@@ -138,16 +134,6 @@ public class EHoldingsJobConfig {
     return objectMapper.readValue(exportConfigStr, EHoldingsExportConfig.class);
   }
 
-  @StepScope
-  @Bean("eHoldingsItemProcessor")
-  public ItemProcessor<EHoldingsResourceDTO, EHoldingsResourceDTO> itemProcessor(
-    EHoldingsAgreementItemProcessor eHoldingsAgreementItemProcessor,
-    EHoldingsNoteItemProcessor eHoldingsNoteItemProcessor) {
-    var itemProcessor = new CompositeItemProcessor<EHoldingsResourceDTO, EHoldingsResourceDTO>();
-    itemProcessor.setDelegates(List.of(eHoldingsNoteItemProcessor, eHoldingsAgreementItemProcessor));
-    return itemProcessor;
-  }
-
   @Bean("eHoldingsResourceProcessor")
   public ItemProcessor<EHoldingsResourceDTO, EHoldingsResourceExportFormat> resourceProcessor(
     EHoldingsToExportFormatMapper mapper) {
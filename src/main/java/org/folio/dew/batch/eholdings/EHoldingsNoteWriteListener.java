@@ -0,0 +1,65 @@
+package org.folio.dew.batch.eholdings;
+
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.LOAD_FIELD_TITLE_NOTES;
+import static org.folio.dew.client.NotesClient.NoteLinkType.RESOURCE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.collections4.CollectionUtils;
+import org.folio.dew.client.NotesQueryClient;
+import org.folio.dew.domain.dto.EHoldingsExportConfig;
+import org.folio.dew.domain.dto.eholdings.EHoldingsResourceDTO;
+import org.folio.dew.domain.dto.eholdings.Note;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.stereotype.Component;
+
+@Component
+@StepScope
+public class EHoldingsNoteWriteListener extends AbstractEHoldingsResourceWriteListener<Note> {
+
+  private static final int NOTES_LIMIT = 1000;
+  private static final String NOTES_QUERY =
+    "domain==eholdings and links.type==resource and links.id==(%s) sortBy metadata.updatedDate/sort.descending";
+
+  private final NotesQueryClient notesQueryClient;
+
+  public EHoldingsNoteWriteListener(NotesQueryClient notesQueryClient,
+                                    EHoldingsExportConfig exportConfig) {
+    super(exportConfig.getTitleFields() != null && exportConfig.getTitleFields().contains(LOAD_FIELD_TITLE_NOTES));
+    this.notesQueryClient = notesQueryClient;
+  }
+
+  @Override
+  protected List<Note> load(Set<String> resourceIds) {
+    var ids = resourceIds.stream()
+      .map(id -> '"' + id + '"')
+      .collect(Collectors.joining(" or "));
+    var query = String.format(NOTES_QUERY, ids);
+    var notes = new ArrayList<Note>();
+    while (true) {
+      var noteCollection = notesQueryClient.getNotesByQuery(query, notes.size(), NOTES_LIMIT);
+      if (CollectionUtils.isEmpty(noteCollection.getNotes())) {
+        return notes;
+      }
+      notes.addAll(noteCollection.getNotes());
+      if (notes.size() >= noteCollection.getTotalRecords()) {
+        return notes;
+      }
+    }
+  }
+
+  @Override
+  protected List<String> getResourceIds(Note note) {
+    return note.getLinks().stream()
+      .filter(link -> RESOURCE.getVal().equals(link.getType()))
+      .map(link -> link.getId())
+      .toList();
+  }
+
+  @Override
+  protected void assign(EHoldingsResourceDTO resource, List<Note> notes) {
+    resource.setNotes(notes);
+  }
+}
@@ -0,0 +1,72 @@
+package org.folio.dew.batch.eholdings;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.log4j.Log4j2;
+import org.folio.dew.config.properties.EHoldingsJobProperties;
+import org.folio.dew.repository.EHoldingsPackageRepository;
+import org.folio.dew.repository.EHoldingsResourceRepository;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Removes eHoldings staging rows of jobs that have finished or crashed without running their cleanup step.
+ * Staging tables live in the tenant schema, so sweeps run within eHoldings jobs of the tenant,
+ * at most once per configured interval and not earlier than one interval after the module start.
+ */
+@Log4j2
+@Component
+public class EHoldingsOrphansSweeper {
+
+  private final Map<String, Instant> lastSweeps = new ConcurrentHashMap<>();
+
+  private final EHoldingsPackageRepository packageRepository;
+  private final EHoldingsResourceRepository resourceRepository;
+  private final EHoldingsJobProperties jobProperties;
+  private final FolioExecutionContext folioExecutionContext;
+  private final Clock clock;
+  private final Instant startedAt;
+
+  @Autowired
+  public EHoldingsOrphansSweeper(EHoldingsPackageRepository packageRepository,
+                                 EHoldingsResourceRepository resourceRepository,
+                                 EHoldingsJobProperties jobProperties,
+                                 FolioExecutionContext folioExecutionContext) {
+    this(packageRepository, resourceRepository, jobProperties, folioExecutionContext, Clock.systemDefaultZone());
+  }
+
+  EHoldingsOrphansSweeper(EHoldingsPackageRepository packageRepository,
+                          EHoldingsResourceRepository resourceRepository,
+                          EHoldingsJobProperties jobProperties,
+                          FolioExecutionContext folioExecutionContext,
+                          Clock clock) {
+    this.packageRepository = packageRepository;
+    this.resourceRepository = resourceRepository;
+    this.jobProperties = jobProperties;
+    this.folioExecutionContext = folioExecutionContext;
+    this.clock = clock;
+    this.startedAt = clock.instant();
+  }
+
+  public void sweepIfDue() {
+    var now = clock.instant();
+    var tenantId = folioExecutionContext.getTenantId();
+    var lastSweep = lastSweeps.getOrDefault(tenantId, startedAt);
+    if (lastSweep.plus(jobProperties.getOrphanSweepInterval()).isAfter(now)) {
+      return;
+    }
+    lastSweeps.put(tenantId, now);
+
+    var startedAfter = LocalDateTime.now(clock).minus(jobProperties.getOrphanMaxAge());
+    var packages = packageRepository.deleteOrphans(startedAfter);
+    var resources = resourceRepository.deleteOrphans(startedAfter);
+    if (packages + resources > 0) {
+      log.info("Removed orphaned eHoldings staging rows for tenant {}: {} packages, {} resources",
+        tenantId, packages, resources);
+    }
+  }
+}
@@ -11,12 +11,25 @@ import static org.folio.dew.client.KbEbscoClient.ACCESS_TYPE;
 import static org.folio.dew.client.NotesClient.NoteLinkDomain.EHOLDINGS;
 import static org.folio.dew.domain.dto.EHoldingsExportConfig.RecordTypeEnum.PACKAGE;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import lombok.extern.log4j.Log4j2;
 import org.folio.dew.client.AgreementClient;
 import org.folio.dew.client.KbEbscoClient;
 import org.folio.dew.client.NotesClient;
+import org.folio.dew.config.properties.EHoldingsJobProperties;
 import org.folio.dew.domain.dto.EHoldingsExportConfig;
 import org.folio.dew.domain.dto.eholdings.EHoldingsPackageDTO;
+import org.folio.dew.domain.dto.eholdings.EPackage;
+import org.folio.dew.domain.dto.eholdings.EProvider;
+import org.folio.dew.domain.dto.eholdings.Note;
 import org.folio.dew.repository.EHoldingsPackageRepository;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.batch.core.JobExecution;
@@ -25,7 +38,9 @@ import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -39,6 +54,8 @@ public class EHoldingsPreparationTasklet implements Tasklet {
   private final KbEbscoClient kbEbscoClient;
   private final NotesClient notesClient;
   private final AgreementClient agreementClient;
+  private final TaskExecutor taskExecutor;
+  private final Duration timeout;
 
   private final EHoldingsExportConfig.RecordTypeEnum recordType;
   private final String recordId;
@@ -55,13 +72,17 @@ public class EHoldingsPreparationTasklet implements Tasklet {
                                      NotesClient notesClient,
                                      AgreementClient agreementClient,
                                      EHoldingsExportConfig exportConfig,
-                                     EHoldingsPackageRepository repository) {
+                                     EHoldingsPackageRepository repository,
+                                     EHoldingsJobProperties jobProperties,
+                                     @Qualifier("eHoldingsPreparationExecutor") TaskExecutor taskExecutor) {
     validateExportFields(exportConfig);
 
     this.repository = repository;
     this.notesClient = notesClient;
     this.kbEbscoClient = kbEbscoClient;
     this.agreementClient = agreementClient;
+    this.taskExecutor = taskExecutor;
+    this.timeout = jobProperties.getPreparationTimeout();
     this.recordId = exportConfig.getRecordId();
     this.recordType = exportConfig.getRecordType();
     this.eHoldingsPackageDTO = EHoldingsPackageDTO.builder().build();
@@ -77,17 +98,29 @@ public class EHoldingsPreparationTasklet implements Tasklet {
     var packageId = recordType == PACKAGE ? recordId : recordId.split("-\\d+$")[0];
     log.trace("Reading record with id: " + packageId);
 
-    eHoldingsPackageDTO.setEPackage(kbEbscoClient.getPackageById(packageId, ACCESS_TYPE));
-    if (loadNotes) loadNotes();
-    if (loadProvider) loadProvider();
-    if (loadAgreements) loadAgreements();
+    var deadline = System.nanoTime() + timeout.toNanos();
+    var ePackage = supplyAsync(() -> kbEbscoClient.getPackageById(packageId, ACCESS_TYPE));
+    var provider = loadProvider ? ePackage.thenApplyAsync(this::loadProvider, taskExecutor) : null;
+    var notes = loadNotes ? supplyAsync(() -> loadNotes(packageId)) : null;
+    var agreements = loadAgreements ? supplyAsync(() -> loadAgreements(packageId)) : null;
+
+    try {
+      eHoldingsPackageDTO.setEPackage(await(ePackage, "package", deadline));
+      if (provider != null) eHoldingsPackageDTO.setEProvider(await(provider, "provider", deadline));
+      if (notes != null) eHoldingsPackageDTO.setNotes(await(notes, "package notes", deadline));
+      if (agreements != null) eHoldingsPackageDTO.setAgreements(await(agreements, "package agreements", deadline));
+    } catch (RuntimeException e) {
+      // requests still queued are not sent once cancelled
+      Stream.of(ePackage, provider, notes, agreements).filter(Objects::nonNull).forEach(future -> future.cancel(true));
+      throw e;
+    }
     log.trace("Record is read.");
 
     log.trace("Writing the record to a database.");
-    var ePackage = EHoldingsPackageMapper.convertToEntity(eHoldingsPackageDTO);
+    var packageEntity = EHoldingsPackageMapper.convertToEntity(eHoldingsPackageDTO);
     var jobId = jobExecution.getId();
-    ePackage.setJobExecutionId(jobId);
-    repository.save(ePackage);
+    packageEntity.setJobExecutionId(jobId);
+    repository.save(packageEntity);
     jobExecution.getExecutionContext().putInt(CONTEXT_TOTAL_PACKAGES,
       jobExecution.getExecutionContext().getInt(CONTEXT_TOTAL_PACKAGES, 0) + 1);
 
@@ -105,32 +138,51 @@ public class EHoldingsPreparationTasklet implements Tasklet {
     return RepeatStatus.FINISHED;
   }
 
-  private void loadProvider() {
+  private <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+    return CompletableFuture.supplyAsync(supplier, taskExecutor);
+  }
+
+  /**
+   * Waits for the request until the shared deadline, rethrowing its failure as is.
+   * On failure the caller cancels the other requests of the record.
+   */
+  private <T> T await(CompletableFuture<T> future, String name, long deadline) {
+    try {
+      return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      throw new IllegalStateException(String.format("Loading of %s for record %s timed out after %s",
+        name, recordId, timeout), e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(String.format("Loading of %s for record %s failed", name, recordId), e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(String.format("Loading of %s for record %s was interrupted", name, recordId), e);
+    }
+  }
+
+  private EProvider loadProvider(EPackage ePackage) {
     log.trace("Loading provider...");
-    var providerId = eHoldingsPackageDTO.getEPackage().getData().getAttributes().getProviderId();
-    eHoldingsPackageDTO.setEProvider(kbEbscoClient.getProviderById(providerId, null));
+    var providerId = ePackage.getData().getAttributes().getProviderId();
+    var provider = kbEbscoClient.getProviderById(providerId, null);
     log.trace("Provider loaded.");
+    return provider;
   }
 
-  private void loadNotes() {
+  private List<Note> loadNotes(String packageId) {
     log.trace("Loading notes...");
-    var noteCollection = notesClient.getAssignedNotes(EHOLDINGS,
-      NotesClient.NoteLinkType.PACKAGE,
-      eHoldingsPackageDTO.getEPackage().getData().getId());
-    if (noteCollection.getTotalRecords() > 0) {
-      eHoldingsPackageDTO.setNotes(noteCollection.getNotes());
-    }
+    var noteCollection = notesClient.getAssignedNotes(EHOLDINGS, NotesClient.NoteLinkType.PACKAGE, packageId);
     log.trace("Notes loaded.");
+    return noteCollection.getTotalRecords() > 0 ? noteCollection.getNotes() : List.of();
   }
 
-  private void loadAgreements() {
+  private List<AgreementClient.Agreement> loadAgreements(String packageId) {
     log.trace("Loading agreements...");
-    var agreements = agreementClient.getAssignedAgreements(
-      getFiltersParam(eHoldingsPackageDTO.getEPackage().getData().getId()));
-    if (!agreements.isEmpty()) {
-      eHoldingsPackageDTO.setAgreements(agreements);
-    }
+    var agreements = agreementClient.getAssignedAgreements(getFiltersParam(packageId));
     log.trace("Agreements loaded.");
+    return agreements;
   }
 
   private void validateExportFields(EHoldingsExportConfig exportConfig) {
@@ -42,7 +42,7 @@ public class GetEHoldingsWriter implements ItemWriter<EHoldingsResourceDTO> {
   public void write(Chunk<? extends EHoldingsResourceDTO> list) throws Exception {
     var resources = list.getItems().stream().map(EHoldingsResourceMapper::convertToEntity).collect(Collectors.toList());
     resources.forEach(r -> r.setJobExecutionId(jobId));
-    repository.saveAll(resources);
+    repository.upsertAll(resources);
     jobExecution.getExecutionContext().putInt(CONTEXT_TOTAL_RESOURCES,
       jobExecution.getExecutionContext().getInt(CONTEXT_TOTAL_RESOURCES, 0) + resources.size());
 
@@ -19,8 +19,8 @@ public class DataExportCsvPartitioner extends CsvPartitioner {
 
   @Override
   protected Long getLimit() {
-    try (var lines = localFilesStorage.lines(fileName)) {
-      return lines.count();
+    try {
+      return localFilesStorage.countLines(fileName);
     } catch (Exception e) {
       log.error("Error reading file {}, reason: {}", fileName, e.getMessage());
       return 0L;
@@ -1,8 +1,10 @@
 package org.folio.dew.client;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.Data;
 import org.folio.dew.config.feign.FeignClientConfiguration;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -13,24 +15,47 @@ import org.springframework.web.bind.annotation.RequestParam;
 @FeignClient(name = "erm", configuration = FeignClientConfiguration.class)
 public interface AgreementClient {
   String ITEMS_REFERENCE_FILTER = "items.reference";
+  String OR_FILTERS_DELIMITER = "||";
 
   static String getFiltersParam(String id) {
     return ITEMS_REFERENCE_FILTER + "=" + id;
   }
 
+  static String getFiltersParam(Collection<String> ids) {
+    return ids.stream()
+      .map(AgreementClient::getFiltersParam)
+      .collect(Collectors.joining(OR_FILTERS_DELIMITER));
+  }
+
   @GetMapping(value = "/sas", produces = MediaType.APPLICATION_JSON_VALUE)
   List<Agreement> getAssignedAgreements(@RequestParam(value = "filters") String filters);
 
+  /**
+   * Returns one page of the agreements, pages are numbered from 1.
+   */
+  @GetMapping(value = "/sas", produces = MediaType.APPLICATION_JSON_VALUE)
+  List<Agreement> getAssignedAgreements(@RequestParam(value = "filters") String filters,
+                                        @RequestParam(value = "perPage") int perPage,
+                                        @RequestParam(value = "page") int page);
+
   @Data
   class Agreement {
 
     private String status;
     private String name;
     private String startDate;
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    private List<AgreementItem> items;
 
     @JsonProperty("agreementStatus")
     private void unpackStatusFromNestedObject(Map<String, String> agreementStatus) {
       status = agreementStatus.get("label");
     }
   }
+
+  @Data
+  class AgreementItem {
+
+    private String reference;
+  }
 }
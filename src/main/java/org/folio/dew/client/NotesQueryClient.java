@@ -0,0 +1,16 @@
+package org.folio.dew.client;
+
+import org.folio.dew.client.NotesClient.NoteCollection;
+import org.folio.dew.config.feign.FeignClientConfiguration;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@FeignClient(name = "notes", configuration = FeignClientConfiguration.class)
+public interface NotesQueryClient {
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  NoteCollection getNotesByQuery(@RequestParam("query") String query, @RequestParam("offset") int offset,
+                                 @RequestParam("limit") int limit);
+}
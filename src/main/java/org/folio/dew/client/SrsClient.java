@@ -5,11 +5,18 @@ import org.folio.dew.config.feign.FeignClientConfiguration;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
+
 @FeignClient(name = "source-storage", configuration = FeignClientConfiguration.class)
 public interface SrsClient {
 
   @GetMapping(value = "/source-records", produces = MediaType.APPLICATION_JSON_VALUE)
   JsonNode getMarc(@RequestParam("instanceId") String instanceId, @RequestParam("idType") String idType, @RequestParam("deleted") boolean deleted);
+
+  @PostMapping(value = "/source-records", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+  JsonNode getMarcByIds(@RequestBody List<String> ids, @RequestParam("idType") String idType, @RequestParam("deleted") boolean deleted);
 }
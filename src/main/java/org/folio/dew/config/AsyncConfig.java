@@ -1,5 +1,9 @@
 package org.folio.dew.config;
 
+import org.folio.dew.config.properties.AcquisitionsJobProperties;
+import org.folio.dew.config.properties.AuthorityControlJobProperties;
+import org.folio.dew.config.properties.JobCommandsProperties;
+import org.folio.dew.config.properties.RemoteFilesStorageProperties;
 import org.folio.spring.scope.FolioExecutionScopeExecutionContextManager;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
@@ -9,8 +13,10 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableAsync
@@ -18,6 +24,14 @@ public class AsyncConfig {
 
   private static final int TASK_EXECUTOR_CORE_POOL_SIZE = 10;
   private static final int TASK_EXECUTOR_MAX_POOL_SIZE = 10;
+  private static final int E_HOLDINGS_PREPARATION_POOL_SIZE = 4;
+  private static final int E_HOLDINGS_PREPARATION_QUEUE_CAPACITY = 100;
+  private static final int E_HOLDINGS_PREFETCH_POOL_SIZE = 4;
+  private static final int E_HOLDINGS_PREFETCH_QUEUE_CAPACITY = 100;
+  private static final int EDIFACT_PREFETCH_POOL_SIZE = 4;
+  private static final int EDIFACT_PREFETCH_QUEUE_CAPACITY = 100;
+  private static final int JOB_UPDATES_SCHEDULER_POOL_SIZE = 1;
+  private static final int FILE_ASSEMBLY_POOL_SIZE = 4;
 
   @Value("${application.core-pool-size}")
   private int corePoolSize;
@@ -44,6 +58,26 @@ public class AsyncConfig {
     return threadPoolTaskExecutor;
   }
 
+  @Bean(name = "acquisitionsJobLauncher")
+  public JobLauncher getAcquisitionsJobLauncher(
+      JobRepository jobRepository, @Qualifier("acquisitionsTaskExecutor") TaskExecutor taskExecutor) {
+    var jobLauncher = new TaskExecutorJobLauncher();
+    jobLauncher.setJobRepository(jobRepository);
+    jobLauncher.setTaskExecutor(taskExecutor);
+    return jobLauncher;
+  }
+
+  @Bean(name = "acquisitionsTaskExecutor")
+  public TaskExecutor getAcquisitionsTaskExecutor(AcquisitionsJobProperties acquisitionsJobProperties) {
+    var threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(acquisitionsJobProperties.getExportPoolSize());
+    threadPoolTaskExecutor.setMaxPoolSize(acquisitionsJobProperties.getExportPoolSize());
+    threadPoolTaskExecutor.setThreadNamePrefix("acquisitions-export-");
+    threadPoolTaskExecutor.setTaskDecorator(
+      FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    return threadPoolTaskExecutor;
+  }
+
   @Bean(name = "asyncTaskExecutorBulkEdit")
   public TaskExecutor getAsyncTaskExecutorBulkEdit() {
     var threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
@@ -54,4 +88,106 @@ public class AsyncConfig {
     return threadPoolTaskExecutor;
   }
 
+  @Bean(name = "eHoldingsPreparationExecutor")
+  public TaskExecutor getEHoldingsPreparationExecutor() {
+    var threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(E_HOLDINGS_PREPARATION_POOL_SIZE);
+    threadPoolTaskExecutor.setMaxPoolSize(E_HOLDINGS_PREPARATION_POOL_SIZE);
+    threadPoolTaskExecutor.setQueueCapacity(E_HOLDINGS_PREPARATION_QUEUE_CAPACITY);
+    threadPoolTaskExecutor.setThreadNamePrefix("eholdings-preparation-");
+    threadPoolTaskExecutor.setTaskDecorator(
+      FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "eHoldingsPrefetchExecutor")
+  public TaskExecutor getEHoldingsPrefetchExecutor() {
+    var threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(E_HOLDINGS_PREFETCH_POOL_SIZE);
+    threadPoolTaskExecutor.setMaxPoolSize(E_HOLDINGS_PREFETCH_POOL_SIZE);
+    threadPoolTaskExecutor.setQueueCapacity(E_HOLDINGS_PREFETCH_QUEUE_CAPACITY);
+    threadPoolTaskExecutor.setThreadNamePrefix("eholdings-prefetch-");
+    threadPoolTaskExecutor.setTaskDecorator(
+      FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "edifactPrefetchExecutor")
+  public TaskExecutor getEdifactPrefetchExecutor() {
+    var threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(EDIFACT_PREFETCH_POOL_SIZE);
+    threadPoolTaskExecutor.setMaxPoolSize(EDIFACT_PREFETCH_POOL_SIZE);
+    threadPoolTaskExecutor.setQueueCapacity(EDIFACT_PREFETCH_QUEUE_CAPACITY);
+    threadPoolTaskExecutor.setThreadNamePrefix("edifact-prefetch-");
+    threadPoolTaskExecutor.setTaskDecorator(
+      FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "jobCommandsExecutor")
+  public TaskExecutor getJobCommandsExecutor(JobCommandsProperties jobCommandsProperties) {
+    var threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(jobCommandsProperties.getWorkerPoolSize());
+    threadPoolTaskExecutor.setMaxPoolSize(jobCommandsProperties.getWorkerPoolSize());
+    threadPoolTaskExecutor.setQueueCapacity(jobCommandsProperties.getQueueCapacity());
+    threadPoolTaskExecutor.setThreadNamePrefix("job-commands-");
+    threadPoolTaskExecutor.setTaskDecorator(
+      FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "fileAssemblyExecutor")
+  public TaskExecutor getFileAssemblyExecutor() {
+    var threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(FILE_ASSEMBLY_POOL_SIZE);
+    threadPoolTaskExecutor.setMaxPoolSize(FILE_ASSEMBLY_POOL_SIZE);
+    threadPoolTaskExecutor.setThreadNamePrefix("file-assembly-");
+    threadPoolTaskExecutor.setTaskDecorator(
+      FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "authorityControlPartitionExecutor")
+  public TaskExecutor getAuthorityControlPartitionExecutor(AuthorityControlJobProperties authorityControlJobProperties) {
+    var threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(authorityControlJobProperties.getPartitionPoolSize());
+    threadPoolTaskExecutor.setMaxPoolSize(authorityControlJobProperties.getPartitionPoolSize());
+    threadPoolTaskExecutor.setThreadNamePrefix("authority-control-partition-");
+    threadPoolTaskExecutor.setTaskDecorator(
+      FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "storageDeleteExecutor")
+  public TaskExecutor getStorageDeleteExecutor(RemoteFilesStorageProperties remoteFilesStorageProperties) {
+    var threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(Math.max(1, remoteFilesStorageProperties.getDeleteParallelism()));
+    threadPoolTaskExecutor.setMaxPoolSize(Math.max(1, remoteFilesStorageProperties.getDeleteParallelism()));
+    threadPoolTaskExecutor.setThreadNamePrefix("storage-delete-");
+    threadPoolTaskExecutor.setTaskDecorator(
+      FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "storageAssemblyExecutor")
+  public TaskExecutor getStorageAssemblyExecutor(RemoteFilesStorageProperties remoteFilesStorageProperties) {
+    var threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(Math.max(1, remoteFilesStorageProperties.getAssemblyParallelism()));
+    threadPoolTaskExecutor.setMaxPoolSize(Math.max(1, remoteFilesStorageProperties.getAssemblyParallelism()));
+    threadPoolTaskExecutor.setThreadNamePrefix("storage-assembly-");
+    threadPoolTaskExecutor.setTaskDecorator(
+      FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    return threadPoolTaskExecutor;
+  }
+
+  @Bean(name = "jobUpdatesScheduler")
+  public TaskScheduler getJobUpdatesScheduler() {
+    var threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
+    threadPoolTaskScheduler.setPoolSize(JOB_UPDATES_SCHEDULER_POOL_SIZE);
+    threadPoolTaskScheduler.setThreadNamePrefix("job-updates-");
+    threadPoolTaskScheduler.setTaskDecorator(
+      FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    return threadPoolTaskScheduler;
+  }
+
 }
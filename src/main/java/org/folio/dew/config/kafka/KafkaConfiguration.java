@@ -4,24 +4,33 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.folio.dew.config.properties.JobCommandsProperties;
+import org.folio.dew.error.JobCommandInProgressException;
+import org.folio.dew.error.JobCommandsQueueFullException;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.stereotype.Component;
+import org.springframework.util.backoff.FixedBackOff;
 
 @Component
 @Configuration
@@ -29,6 +38,7 @@ import org.springframework.stereotype.Component;
 public class KafkaConfiguration {
 
   private final KafkaProperties kafkaProperties;
+  private final JobCommandsProperties jobCommandsProperties;
 
   @Bean
   public <V> ConcurrentKafkaListenerContainerFactory<String, V> kafkaListenerContainerFactory(
@@ -38,6 +48,20 @@ public class KafkaConfiguration {
     if (kafkaProperties.getListener().getAckMode() != null) {
       factory.getContainerProperties().setAckMode(kafkaProperties.getListener().getAckMode());
     }
+    if (factory.getContainerProperties().getAckMode() == ContainerProperties.AckMode.MANUAL) {
+      // commands handed off to workers are acknowledged when they finish, possibly out of order. The consumer is
+      // paused until all records of the previous poll are acknowledged, so a slow resend delays the following
+      // commands of the consumer, that is accepted as out of order acks on the consumer thread would commit the
+      // offsets of commands still processed by workers
+      factory.getContainerProperties().setAsyncAcks(true);
+    }
+    // a command rejected by the full work queue is redelivered once its partition is resumed, the interval keeps
+    // commands of partitions which can not be paused from being redelivered in a tight loop
+    var errorHandler = new DefaultErrorHandler(
+      new FixedBackOff(jobCommandsProperties.getRedeliveryInterval().toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS));
+    errorHandler.defaultFalse();
+    errorHandler.addRetryableExceptions(JobCommandsQueueFullException.class, JobCommandInProgressException.class);
+    factory.setCommonErrorHandler(errorHandler);
     return factory;
   }
 
@@ -65,7 +89,37 @@ public class KafkaConfiguration {
   }
 
   @Bean
+  @Primary
   public <V> KafkaTemplate<String, V> kafkaTemplate(ProducerFactory<String, V> pf) {
     return new KafkaTemplate<>(pf);
   }
+
+  @Bean
+  public KafkaTemplate<String, Object> jobUpdateKafkaTemplate(ProducerFactory<String, Object> pf, Environment environment) {
+    return topicKafkaTemplate(pf, environment, KafkaService.Topic.JOB_UPDATE);
+  }
+
+  @Bean
+  public KafkaTemplate<String, Object> exportHistoryKafkaTemplate(ProducerFactory<String, Object> pf, Environment environment) {
+    return topicKafkaTemplate(pf, environment, KafkaService.Topic.EXPORT_HISTORY_CREATE);
+  }
+
+  /**
+   * Creates the template producing to the topic, with batching overridden by {@code linger-ms} and
+   * {@code batch-size} of the topic configuration when they are set.
+   */
+  static KafkaTemplate<String, Object> topicKafkaTemplate(ProducerFactory<String, Object> pf, Environment environment,
+                                                          KafkaService.Topic topic) {
+    var configPrefix = String.format("application.kafka.topic-configuration.%s.", topic.getTopicName());
+    Map<String, Object> overrides = new HashMap<>();
+    var lingerMs = environment.getProperty(configPrefix + "linger-ms");
+    if (StringUtils.isNotBlank(lingerMs)) {
+      overrides.put(ProducerConfig.LINGER_MS_CONFIG, Integer.parseInt(lingerMs));
+    }
+    var batchSize = environment.getProperty(configPrefix + "batch-size");
+    if (StringUtils.isNotBlank(batchSize)) {
+      overrides.put(ProducerConfig.BATCH_SIZE_CONFIG, Integer.parseInt(batchSize));
+    }
+    return overrides.isEmpty() ? new KafkaTemplate<>(pf) : new KafkaTemplate<>(pf, overrides);
+  }
 }
@@ -1,7 +1,11 @@
 package org.folio.dew.config.kafka;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -12,6 +16,7 @@ import org.apache.kafka.clients.admin.NewTopic;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.tools.kafka.KafkaUtils;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.core.env.Environment;
@@ -19,27 +24,50 @@ import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
 
 @Component
 @Log4j2
-@RequiredArgsConstructor
 public class KafkaService {
 
   public static final String EVENT_LISTENER_ID = "mod-data-export-events-listener";
+  private static final String SEND_FAILURES_METRIC = "data.export.worker.kafka.send.failures";
 
   private final KafkaAdmin kafkaAdmin;
-  private final KafkaTemplate<String, Object> kafkaTemplate;
   private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
   private final BeanFactory beanFactory;
   private final Environment springEnvironment;
   private final FolioExecutionContext folioExecutionContext;
+  private final MeterRegistry meterRegistry;
+  private final Map<Topic, KafkaTemplate<String, Object>> topicTemplates = new EnumMap<>(Topic.class);
 
   @Value("${env:folio}")
   private String environment;
 
+  @Value("${application.kafka.log-payload-max-length:1000}")
+  private int logPayloadMaxLength;
+
+  public KafkaService(KafkaAdmin kafkaAdmin,
+                      @Qualifier("jobUpdateKafkaTemplate") KafkaTemplate<String, Object> jobUpdateKafkaTemplate,
+                      @Qualifier("exportHistoryKafkaTemplate") KafkaTemplate<String, Object> exportHistoryKafkaTemplate,
+                      KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+                      BeanFactory beanFactory,
+                      Environment springEnvironment,
+                      FolioExecutionContext folioExecutionContext,
+                      MeterRegistry meterRegistry) {
+    this.kafkaAdmin = kafkaAdmin;
+    this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+    this.beanFactory = beanFactory;
+    this.springEnvironment = springEnvironment;
+    this.folioExecutionContext = folioExecutionContext;
+    this.meterRegistry = meterRegistry;
+    topicTemplates.put(Topic.JOB_UPDATE, jobUpdateKafkaTemplate);
+    topicTemplates.put(Topic.EXPORT_HISTORY_CREATE, exportHistoryKafkaTemplate);
+  }
+
   @RequiredArgsConstructor
   @AllArgsConstructor
   @Getter
@@ -106,13 +134,38 @@ public class KafkaService {
     return KafkaUtils.getTenantTopicName(topicName, environment, tenantId);
   }
 
-  public void send(Topic topic, String key, Object data) {
-    log.info("Sending message in topic {} with key {} and data {}.", topic.getTopicName(), key, data);
+  /**
+   * Sends the message to the tenant specific topic without waiting for the broker. Failed sends are retried by the
+   * idempotent producer until {@code delivery.timeout.ms} elapses, so a failure reported here is final: it is logged
+   * and counted.
+   *
+   * @return future completed when the message is acknowledged by the broker or the producer gives up
+   */
+  public CompletableFuture<SendResult<String, Object>> send(Topic topic, String key, Object data) {
     String tenant = folioExecutionContext.getTenantId();
     if (StringUtils.isBlank(tenant)) {
       throw new IllegalStateException("Can't send to Kafka because tenant is blank");
     }
-    kafkaTemplate.send(getTenantTopicName(topic, tenant), key, data);
-    log.info("Message was sent to topic {} with key {}", topic.getTopicName(), key);
+    log.info("Sending message in topic {} with key {}.", topic.getTopicName(), key);
+    log.debug("Message payload for key {}: {}", () -> key, () -> StringUtils.abbreviate(String.valueOf(data), logPayloadMaxLength));
+    var tenantTopicName = getTenantTopicName(topic, tenant);
+    CompletableFuture<SendResult<String, Object>> sent;
+    try {
+      sent = getTemplate(topic).send(tenantTopicName, key, data);
+    } catch (Exception e) {
+      sent = CompletableFuture.failedFuture(e);
+    }
+    return sent.whenComplete((sendResult, throwable) -> {
+      if (throwable == null) {
+        log.debug("Message with key {} was acknowledged by topic {}", key, tenantTopicName);
+        return;
+      }
+      meterRegistry.counter(SEND_FAILURES_METRIC, "topic", topic.getTopicName()).increment();
+      log.error("Failed to send message with key {} to topic {}", key, tenantTopicName, throwable);
+    });
+  }
+
+  private KafkaTemplate<String, Object> getTemplate(Topic topic) {
+    return topicTemplates.get(topic);
   }
 }
@@ -0,0 +1,52 @@
+package org.folio.dew.config.properties;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Application properties for acquisitions (EDIFACT orders export) batch job configuration
+ */
+@Data
+@Validated
+@Component
+@ConfigurationProperties("application.acquisitions-batch")
+public class AcquisitionsJobProperties {
+
+  /**
+   * Amount of purchase order lines retrieved per request to orders storage.
+   */
+  @Min(1)
+  private int poLinesPageSize = 50;
+  /**
+   * Amount of purchase order ids looked up per request to orders storage.
+   */
+  @Min(1)
+  private int ordersChunkSize = 50;
+  /**
+   * Number of acquisitions export jobs running at the same time, further jobs wait in the queue.
+   */
+  @Min(1)
+  private int exportPoolSize = 10;
+  /**
+   * Maximum number of concurrent FTP/SFTP uploads to one host.
+   */
+  @Min(1)
+  private int ftpUploadsPerHost = 2;
+  /**
+   * Maximum time an upload waits for a free FTP/SFTP connection slot of its host.
+   */
+  private Duration ftpUploadWaitTimeout = Duration.ofMinutes(10);
+  /**
+   * Attempts made to resend an exported file, attempts after the first one resume the interrupted upload.
+   */
+  @Min(1)
+  private int resendAttempts = 3;
+  /**
+   * Delay before repeating a failed resend attempt.
+   */
+  private Duration resendRetryDelay = Duration.ofSeconds(5);
+}
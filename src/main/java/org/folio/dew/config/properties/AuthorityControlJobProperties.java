@@ -27,4 +27,14 @@ public class AuthorityControlJobProperties {
   @Min(1)
   @Max(100)
   private int entitiesLinksChunkSize;
+  /**
+   * Days covered by one partition of the requested date range, 0 reads the whole range in one partition.
+   */
+  @Min(0)
+  private int partitionWindowDays;
+  /**
+   * Number of partitions read in parallel by all authority control export jobs.
+   */
+  @Min(1)
+  private int partitionPoolSize = 4;
 }
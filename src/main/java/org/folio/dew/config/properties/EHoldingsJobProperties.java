@@ -2,6 +2,7 @@ package org.folio.dew.config.properties;
 
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -27,4 +28,31 @@ public class EHoldingsJobProperties {
   @Min(1)
   @Max(100)
   private int kbEbscoChunkSize;
+  /**
+   * Number of kb ebsco pages requested ahead of the page being processed, 0 reads pages one by one.
+   */
+  @Min(0)
+  private int kbEbscoPrefetchPages;
+  /**
+   * Attempts made for a kb ebsco page request rejected with a rate-limit response.
+   */
+  @Min(1)
+  private int kbEbscoRateLimitAttempts = 5;
+  /**
+   * Initial delay in milliseconds before repeating a rate-limited request, doubled on every attempt.
+   */
+  @Min(0)
+  private long kbEbscoRateLimitBackoffMs = 1_000;
+  /**
+   * Minimal interval between sweeps of staged rows left behind by crashed jobs.
+   */
+  private Duration orphanSweepInterval = Duration.ofHours(1);
+  /**
+   * Staged rows of jobs started earlier and still not finished are treated as left by crashed jobs.
+   */
+  private Duration orphanMaxAge = Duration.ofDays(1);
+  /**
+   * Maximum time to wait for package, provider, notes and agreements requests of the preparation step.
+   */
+  private Duration preparationTimeout = Duration.ofMinutes(1);
 }
@@ -0,0 +1,38 @@
+package org.folio.dew.config.properties;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Application properties for processing of job commands received from kafka
+ */
+@Data
+@Validated
+@Component
+@ConfigurationProperties("application.job-commands")
+public class JobCommandsProperties {
+
+  /**
+   * Number of threads processing slow job commands (resend and delete) off the consumer threads.
+   */
+  @Min(1)
+  private int workerPoolSize = 4;
+  /**
+   * Slow job commands waiting for a free worker, partitions are paused while the queue is full.
+   */
+  @Min(0)
+  private int queueCapacity = 50;
+  /**
+   * Time a received job command is reserved for the pod launching its job, a redelivered command waits
+   * while the reservation lasts and takes the command over when it expires without the job being launched.
+   */
+  private Duration receiptLease = Duration.ofMinutes(1);
+  /**
+   * Delay before a job command rejected by the full queue or reserved by another pod is delivered again.
+   */
+  private Duration redeliveryInterval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,34 @@
+package org.folio.dew.config.properties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Application properties for job progress updates published to the job update topic
+ */
+@Data
+@Validated
+@Component
+@ConfigurationProperties("application.job-updates")
+public class JobUpdatesProperties {
+
+  /**
+   * Minimal interval between progress updates of one job, intermediate updates are merged keeping the latest state.
+   */
+  private Duration progressInterval = Duration.ofSeconds(1);
+  /**
+   * Progress growth in percent which publishes an update before the interval elapses.
+   */
+  @Min(1)
+  @Max(100)
+  private int progressStep = 10;
+  /**
+   * Time a completed or failed job is remembered to drop its late progress updates.
+   */
+  private Duration finishedJobRetention = Duration.ofMinutes(10);
+}
@@ -1,11 +1,21 @@
 package org.folio.dew.config.properties;
 
+import lombok.Data;
+import lombok.EqualsAndHashCode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 /**
  * Application properties for object storage client MinIo.
  */
+@Data
+@EqualsAndHashCode(callSuper = true)
 @Component
 @ConfigurationProperties("application.minio-local")
-public class LocalFilesStorageProperties extends MinioClientProperties {}
+public class LocalFilesStorageProperties extends MinioClientProperties {
+  /**
+   * Directory of a local or ephemeral volume keeping temporary files instead of the object storage,
+   * blank to keep temporary files in the object storage.
+   */
+  private String diskPath;
+}
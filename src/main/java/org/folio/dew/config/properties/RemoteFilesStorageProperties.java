@@ -1,9 +1,35 @@
 package org.folio.dew.config.properties;
 
+import lombok.Data;
+import lombok.EqualsAndHashCode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+@Data
+@EqualsAndHashCode(callSuper = true)
 @Component
 @ConfigurationProperties("application.minio-remote")
 public class RemoteFilesStorageProperties extends MinioClientProperties {
+
+  /**
+   * Fraction of the presigned url expiration time during which a generated url is reused.
+   * Zero or negative value disables presigned url caching.
+   */
+  private double presignedUrlCacheRatio = 0.5;
+
+  /**
+   * Maximum number of presigned urls kept in cache.
+   */
+  private long presignedUrlCacheMaxSize = 10_000;
+
+  /**
+   * Number of multi-object delete requests sent in parallel, shared by the remote and local files storages.
+   */
+  private int deleteParallelism = 4;
+
+  /**
+   * Number of part copy or upload requests sent in parallel while an object is assembled from parts,
+   * shared by the remote and local files storages.
+   */
+  private int assemblyParallelism = 8;
 }
@@ -0,0 +1,7 @@
+package org.folio.dew.error;
+
+public class JobCommandInProgressException extends RuntimeException {
+  public JobCommandInProgressException(String message) {
+    super(message);
+  }
+}
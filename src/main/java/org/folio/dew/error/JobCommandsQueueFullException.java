@@ -0,0 +1,7 @@
+package org.folio.dew.error;
+
+public class JobCommandsQueueFullException extends RuntimeException {
+  public JobCommandsQueueFullException(String message, Exception e) {
+    super(message, e);
+  }
+}
@@ -3,26 +3,39 @@ package org.folio.dew.repository;
 import io.minio.BucketExistsArgs;
 import io.minio.ComposeObjectArgs;
 import io.minio.ComposeSource;
+import io.minio.CopyObjectArgs;
+import io.minio.CopySource;
 import io.minio.GetObjectArgs;
 import io.minio.ListObjectsArgs;
 import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
-import io.minio.RemoveObjectArgs;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
 import io.minio.StatObjectArgs;
 import io.minio.UploadObjectArgs;
 import io.minio.credentials.IamAwsProvider;
 import io.minio.credentials.Provider;
 import io.minio.credentials.StaticProvider;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Directive;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.dew.config.properties.MinioClientProperties;
 import org.folio.dew.error.FileOperationException;
+import org.springframework.http.HttpHeaders;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
@@ -30,6 +43,7 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
@@ -38,9 +52,12 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -51,12 +68,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static io.minio.ObjectWriteArgs.MAX_PART_SIZE;
 import static io.minio.ObjectWriteArgs.MIN_MULTIPART_SIZE;
-import static java.lang.String.format;
 import static org.folio.dew.utils.Constants.PATH_SEPARATOR;
 
 @Log4j2
@@ -64,15 +82,30 @@ public class BaseFilesStorage implements S3CompatibleStorage {
 
   private static final String SET_VALUE = "<set>";
   private static final String NOT_SET_VALUE = "<not set>";
+  private static final int MAX_DELETE_BATCH_SIZE = 1000;
+  private static final Set<String> NOT_FOUND_ERROR_CODES = Set.of("NoSuchKey", "NoSuchObject", "NotFound");
   private final MinioClient client;
-  private S3Client s3Client;
+  private final Executor deleteExecutor;
+  private final Executor assemblyExecutor;
+  private final S3Client s3Client;
   private final String bucket;
   private final String region;
   private final String subPath;
+  private final String endpoint;
+  private final String accessKey;
 
   private final boolean isComposeWithAwsSdk;
+  private final boolean isObjectStorage;
 
-  public BaseFilesStorage(MinioClientProperties properties) {
+  public BaseFilesStorage(MinioClientProperties properties, Executor deleteExecutor, Executor assemblyExecutor) {
+    this(properties, deleteExecutor, assemblyExecutor, true);
+  }
+
+  /**
+   * @param isObjectStorage - false if files are kept on another medium, then no S3-compatible storage clients are created
+   */
+  protected BaseFilesStorage(MinioClientProperties properties, Executor deleteExecutor, Executor assemblyExecutor,
+      boolean isObjectStorage) {
     final String accessKey = properties.getAccessKey();
     final String endpoint = properties.getEndpoint();
     final String regionName = properties.getRegion();
@@ -81,6 +114,20 @@ public class BaseFilesStorage implements S3CompatibleStorage {
     subPath = properties.getSubPath();
     isComposeWithAwsSdk = properties.isComposeWithAwsSdk();
     final boolean isForcePathStyle = properties.isForcePathStyle();
+    this.bucket = bucketName;
+    this.region = regionName;
+    this.endpoint = StringUtils.removeEnd(endpoint, PATH_SEPARATOR);
+    this.accessKey = accessKey;
+    this.deleteExecutor = deleteExecutor;
+    this.assemblyExecutor = assemblyExecutor;
+    this.isObjectStorage = isObjectStorage;
+    if (!isObjectStorage) {
+      log.info("No MinIO and AWS SDK clients created, files of sub path {} are not kept in the object storage.", subPath);
+      client = null;
+      s3Client = null;
+      return;
+    }
+
     log.info("Creating MinIO client endpoint {},region {},bucket {},accessKey {},secretKey {}, subPath {}, isComposedWithAwsSdk {}.", endpoint, regionName, bucketName,
       StringUtils.isNotBlank(accessKey) ? SET_VALUE : NOT_SET_VALUE, StringUtils.isNotBlank(secretKey) ? SET_VALUE : NOT_SET_VALUE,
       StringUtils.isNotBlank(subPath) ? SET_VALUE : NOT_SET_VALUE, isComposeWithAwsSdk);
@@ -101,29 +148,25 @@ public class BaseFilesStorage implements S3CompatibleStorage {
 
     client = builder.build();
 
-    this.bucket = bucketName;
-    this.region = regionName;
-
     createBucketIfNotExists();
 
-    if (isComposeWithAwsSdk) {
-      AwsCredentialsProvider credentialsProvider;
-
-      if (StringUtils.isNotBlank(accessKey) && StringUtils.isNotBlank(secretKey)) {
-        var awsCredentials = AwsBasicCredentials.create(accessKey, secretKey);
-        credentialsProvider = StaticCredentialsProvider.create(awsCredentials);
-      } else {
-        credentialsProvider = DefaultCredentialsProvider.create();
-      }
+    AwsCredentialsProvider credentialsProvider;
 
-      s3Client = S3Client.builder()
-        .forcePathStyle(isForcePathStyle)
-        .endpointOverride(URI.create(endpoint))
-        .region(Region.of(regionName))
-        .credentialsProvider(credentialsProvider)
-        .build();
+    if (StringUtils.isNotBlank(accessKey) && StringUtils.isNotBlank(secretKey)) {
+      var awsCredentials = AwsBasicCredentials.create(accessKey, secretKey);
+      credentialsProvider = StaticCredentialsProvider.create(awsCredentials);
+    } else {
+      credentialsProvider = DefaultCredentialsProvider.create();
     }
 
+    // multipart assembly always goes through AWS SDK client, addressed like MinIO client does unless AWS SDK is configured explicitly
+    s3Client = S3Client.builder()
+      .forcePathStyle(isComposeWithAwsSdk ? isForcePathStyle : Boolean.TRUE)
+      .endpointOverride(URI.create(endpoint))
+      .region(StringUtils.isNotBlank(regionName) ? Region.of(regionName) : Region.US_EAST_1)
+      .credentialsProvider(credentialsProvider)
+      .build();
+
   }
 
   public MinioClient getMinioClient() {
@@ -131,6 +174,9 @@ public class BaseFilesStorage implements S3CompatibleStorage {
   }
 
   public void createBucketIfNotExists() {
+    if (!isObjectStorage) {
+      return;
+    }
     try {
       if (StringUtils.isNotBlank(bucket) && !client.bucketExists(BucketExistsArgs.builder().bucket(bucket).region(region).build())) {
         client.makeBucket(MakeBucketArgs.builder()
@@ -247,6 +293,260 @@ public class BaseFilesStorage implements S3CompatibleStorage {
     return writeFile(destPath, inputPath, new HashMap<>());
   }
 
+  /**
+   * Streams content of the known size to a file on S3-compatible storage, large content is sent as a multipart upload
+   *
+   * @param path - the path to the file on S3-compatible storage
+   * @param is - the stream to read the content from
+   * @param size - the size of the content in bytes
+   * @param headers - headers
+   * @return the path to the file
+   * @throws IOException - if an I/O error occurs
+   */
+  public String write(String path, InputStream is, long size, Map<String, String> headers) throws IOException {
+    path = getS3Path(path);
+    if (isComposeWithAwsSdk) {
+      log.info("Streaming with using AWS SDK client");
+      s3Client.putObject(PutObjectRequest.builder().bucket(bucket)
+          .key(path).build(),
+        RequestBody.fromInputStream(is, size));
+      return path;
+    } else {
+      log.info("Streaming with using Minio client");
+      try {
+        return client.putObject(PutObjectArgs.builder()
+            .bucket(bucket)
+            .region(region)
+            .object(path)
+            .headers(headers)
+            .stream(is, size, -1)
+            .build())
+          .object();
+      } catch (Exception e) {
+        throw new IOException("Cannot write file: " + path, e);
+      }
+    }
+  }
+
+  /**
+   * Copies a file of the source storage to this storage on the server side, without downloading its content.
+   * Objects larger than a single copy request allows are copied part by part (UploadPartCopy).
+   * Applicable only if {@link #isSameEndpoint(BaseFilesStorage)} is true for the source storage.
+   *
+   * @param source - the storage the file is copied from
+   * @param sourcePath - the path to the file on the source storage
+   * @param path - the path to the copy on this storage
+   * @param headers - headers replacing the source object ones
+   * @return the path to the copy
+   * @throws IOException - if an I/O error occurs
+   */
+  public String copyFrom(BaseFilesStorage source, String sourcePath, String path, Map<String, String> headers) throws IOException {
+    path = getS3Path(path);
+    var sourceObject = source.getS3Path(sourcePath);
+    log.info("Copying object {} of bucket {} to {} on the server side", sourceObject, source.bucket, path);
+    try {
+      return client.copyObject(CopyObjectArgs.builder()
+          .bucket(bucket)
+          .region(region)
+          .object(path)
+          .source(CopySource.builder()
+            .bucket(source.bucket)
+            .region(source.region)
+            .object(sourceObject)
+            .build())
+          .headers(headers)
+          .metadataDirective(Directive.REPLACE)
+          .build())
+        .object();
+    } catch (Exception e) {
+      throw new IOException("Cannot copy file: " + sourceObject + " to " + path, e);
+    }
+  }
+
+  /**
+   * Assembles an object from the source objects with a multipart upload. Part requests are sent in parallel:
+   * sources of at least {@value io.minio.ObjectWriteArgs#MIN_MULTIPART_SIZE} bytes are copied on the server side
+   * (UploadPartCopy), smaller sources are coalesced into uploaded parts of the minimum part size.
+   *
+   * @param path - the path to the assembled object on S3-compatible storage
+   * @param sourceObjects - the paths to the source objects, in the order of assembly
+   * @param headers - headers of the assembled object
+   * @return the path to the assembled object
+   * @throws IOException - if an I/O error occurs
+   */
+  public String assemble(String path, List<String> sourceObjects, Map<String, String> headers) throws IOException {
+    var destination = getS3Path(path);
+    var keys = sourceObjects.stream().map(this::getS3Path).toList();
+    var sizes = keys.stream()
+      .map(key -> CompletableFuture.supplyAsync(() -> statSize(key), assemblyExecutor))
+      .toList().stream()
+      .map(CompletableFuture::join)
+      .toList();
+    var parts = planAssemblyParts(keys, sizes);
+    if (parts.isEmpty()) {
+      return write(destination, new byte[0], headers);
+    }
+    log.info("Assembling {} from {} objects with {} parts.", destination, keys.size(), parts.size());
+
+    var uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+        .bucket(bucket)
+        .key(destination)
+        .contentType(headers.get(HttpHeaders.CONTENT_TYPE))
+        .contentDisposition(headers.get(HttpHeaders.CONTENT_DISPOSITION))
+        .build())
+      .uploadId();
+    try {
+      var completedParts = parts.stream()
+        .map(part -> CompletableFuture.supplyAsync(() -> transferPart(destination, uploadId, part), assemblyExecutor))
+        .toList().stream()
+        .map(CompletableFuture::join)
+        .toList();
+      s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+        .bucket(bucket)
+        .key(destination)
+        .uploadId(uploadId)
+        .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+        .build());
+      return destination;
+    } catch (Exception e) {
+      s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+        .bucket(bucket)
+        .key(destination)
+        .uploadId(uploadId)
+        .build());
+      throw new IOException("Cannot assemble file: " + destination, e);
+    }
+  }
+
+  private long statSize(String key) {
+    try {
+      return size(key);
+    } catch (IOException e) {
+      throw new FileOperationException(e);
+    }
+  }
+
+  /**
+   * Splits the concatenated sources into parts, every part but the last one is at least of the minimum part size:
+   * either a server-side copy of a single source range or an upload of exactly the minimum part size.
+   */
+  private List<AssemblyPart> planAssemblyParts(List<String> keys, List<Long> sizes) {
+    var parts = new ArrayList<AssemblyPart>();
+    var buffer = new ArrayList<SourceRange>();
+    long buffered = 0;
+    for (int i = 0; i < keys.size(); i++) {
+      long size = sizes.get(i);
+      long offset = 0;
+      while (offset < size) {
+        long remaining = size - offset;
+        if (buffered == 0 && remaining >= MIN_MULTIPART_SIZE) {
+          // the remainder of a source above the maximum part size is kept at least of the minimum part size
+          long length = remaining > MAX_PART_SIZE ? MAX_PART_SIZE - MIN_MULTIPART_SIZE : remaining;
+          parts.add(new AssemblyPart(parts.size() + 1, true, List.of(new SourceRange(keys.get(i), offset, length))));
+          offset += length;
+        } else {
+          long length = Math.min(remaining, MIN_MULTIPART_SIZE - buffered);
+          buffer.add(new SourceRange(keys.get(i), offset, length));
+          buffered += length;
+          offset += length;
+          if (buffered == MIN_MULTIPART_SIZE) {
+            parts.add(new AssemblyPart(parts.size() + 1, false, buffer));
+            buffer = new ArrayList<>();
+            buffered = 0;
+          }
+        }
+      }
+    }
+    if (buffered > 0) {
+      parts.add(new AssemblyPart(parts.size() + 1, false, buffer));
+    }
+    return parts;
+  }
+
+  private CompletedPart transferPart(String destination, String uploadId, AssemblyPart part) {
+    String eTag;
+    if (part.copy()) {
+      var range = part.ranges().get(0);
+      eTag = s3Client.uploadPartCopy(UploadPartCopyRequest.builder()
+          .sourceBucket(bucket)
+          .sourceKey(range.object())
+          .copySourceRange("bytes=" + range.offset() + "-" + (range.offset() + range.length() - 1))
+          .destinationBucket(bucket)
+          .destinationKey(destination)
+          .uploadId(uploadId)
+          .partNumber(part.number())
+          .build())
+        .copyPartResult().eTag();
+    } else {
+      var content = new ByteArrayOutputStream(MIN_MULTIPART_SIZE);
+      for (var range : part.ranges()) {
+        try (var is = client.getObject(GetObjectArgs.builder()
+          .bucket(bucket)
+          .region(region)
+          .object(range.object())
+          .offset(range.offset())
+          .length(range.length())
+          .build())) {
+          is.transferTo(content);
+        } catch (Exception e) {
+          throw new FileOperationException("Cannot read part of file: " + range.object(), e);
+        }
+      }
+      eTag = s3Client.uploadPart(UploadPartRequest.builder()
+          .bucket(bucket)
+          .key(destination)
+          .uploadId(uploadId)
+          .partNumber(part.number())
+          .build(), RequestBody.fromBytes(content.toByteArray()))
+        .eTag();
+    }
+    return CompletedPart.builder().partNumber(part.number()).eTag(eTag).build();
+  }
+
+  private record SourceRange(String object, long offset, long length) {}
+
+  private record AssemblyPart(int number, boolean copy, List<SourceRange> ranges) {}
+
+  /**
+   * Verifies if the other storage is served by the same S3-compatible endpoint with the same credentials,
+   * so that its objects can be copied on the server side.
+   *
+   * @param other - the storage to compare with
+   * @return true if objects of the other storage are reachable by this storage client, otherwise - false
+   */
+  public boolean isSameEndpoint(BaseFilesStorage other) {
+    return isObjectStorage() && other.isObjectStorage()
+      && StringUtils.equalsIgnoreCase(endpoint, other.endpoint) && StringUtils.equals(accessKey, other.accessKey);
+  }
+
+  /**
+   * @return true if files are kept in the S3-compatible storage, false if the storage is backed by another medium
+   */
+  protected boolean isObjectStorage() {
+    return isObjectStorage;
+  }
+
+  /**
+   * Returns size of the file on S3-compatible storage
+   *
+   * @param path - the path to the file on S3-compatible storage
+   * @return the size in bytes
+   * @throws IOException - if an I/O error occurs
+   */
+  public long size(String path) throws IOException {
+    path = getS3Path(path);
+    try {
+      return client.statObject(StatObjectArgs.builder()
+          .bucket(bucket)
+          .region(region)
+          .object(path)
+          .build())
+        .size();
+    } catch (Exception e) {
+      throw new IOException("Cannot get size of file: " + path, e);
+    }
+  }
+
   /**
    * Appends byte[] to existing on the storage file.
    *
@@ -351,32 +651,71 @@ public class BaseFilesStorage implements S3CompatibleStorage {
   }
 
   /**
-   * Deletes a file
+   * Deletes a file or all the files under the prefix with batched multi-object delete requests
    *
-   * @param path - the path to the file to delete
+   * @param path - the path to the file or the prefix of the files to delete
    * @throws FileOperationException if an I/O error occurs
    */
   public void delete(String path) {
     path = getS3Path(path);
-    try {
-      var paths = walk(path).collect(Collectors.toList());
-
-      paths.forEach(p -> {
-        try {
-          client.removeObject(RemoveObjectArgs.builder()
-            .bucket(bucket)
-            .region(region)
-            .object(p)
-            .build());
-        } catch (Exception e) {
-          log.error(format("Cannot delete file: %s", p), e.getMessage());
-        }
-      });
+    try (var paths = walk(path)) {
+      var objects = paths.toList();
+      var errors = removeObjects(objects);
+      log.info("Deleted {} of {} objects under {}.", objects.size() - errors.size(), objects.size(), path);
     } catch (Exception e) {
       throw new FileOperationException("Cannot delete file: " + path, e);
     }
   }
 
+  /**
+   * Deletes the objects with multi-object delete requests of up to {@value #MAX_DELETE_BATCH_SIZE} keys,
+   * several requests are sent in parallel when there are more objects.
+   *
+   * @param objects - the paths to the objects on S3-compatible storage
+   * @return the objects which could not be deleted
+   */
+  public List<ObjectDeletionError> removeObjects(Collection<String> objects) {
+    // sorted keys keep objects of one prefix in the same requests
+    var keys = objects.stream().map(this::getS3Path).distinct().sorted().toList();
+    if (keys.isEmpty()) {
+      return List.of();
+    }
+    var batches = ListUtils.partition(keys, MAX_DELETE_BATCH_SIZE);
+    if (batches.size() == 1) {
+      return removeBatch(batches.get(0));
+    }
+    var results = batches.stream()
+      .map(batch -> CompletableFuture.supplyAsync(() -> removeBatch(batch), deleteExecutor))
+      .toList();
+    return results.stream()
+      .map(CompletableFuture::join)
+      .flatMap(List::stream)
+      .toList();
+  }
+
+  private List<ObjectDeletionError> removeBatch(List<String> keys) {
+    log.debug("Deleting {} objects from {} to {}.", keys.size(), keys.get(0), keys.get(keys.size() - 1));
+    var errors = new ArrayList<ObjectDeletionError>();
+    try {
+      // the request is sent lazily while the results are iterated
+      for (Result<DeleteError> result : client.removeObjects(RemoveObjectsArgs.builder()
+        .bucket(bucket)
+        .region(region)
+        .objects(keys.stream().map(DeleteObject::new).toList())
+        .build())) {
+        var error = result.get();
+        log.error("Cannot delete file: {}, {}", error.objectName(), error.message());
+        errors.add(new ObjectDeletionError(error.objectName(), error.message()));
+      }
+    } catch (Exception e) {
+      log.error("Cannot delete {} files starting with {}: {}", keys.size(), keys.get(0), e.getMessage());
+      keys.stream()
+        .filter(key -> errors.stream().noneMatch(error -> key.equals(error.object())))
+        .forEach(key -> errors.add(new ObjectDeletionError(key, e.getMessage())));
+    }
+    return errors;
+  }
+
   /**
    * Return a {@code Stream} that is lazily populated with {@code
    * Path} by walking the file tree rooted at a given starting file.
@@ -390,24 +729,50 @@ public class BaseFilesStorage implements S3CompatibleStorage {
   }
 
   /**
-   * Verifies if file exists on storage
+   * Verifies if file exists on storage, the exact object key is checked with a single stat (HEAD) request
    *
    * @param path - the path to the file on S3-compatible storage
    * @return true if file exists, otherwise - false
    */
   public boolean exists(String path)  {
     path = getS3Path(path);
+    try {
+      client.statObject(StatObjectArgs.builder()
+        .bucket(bucket)
+        .region(region)
+        .object(path)
+        .build());
+      return true;
+    } catch (ErrorResponseException e) {
+      if (!NOT_FOUND_ERROR_CODES.contains(e.errorResponse().code())) {
+        log.error("Error file existing verification, path: " + path, e);
+      }
+      return false;
+    } catch (Exception e) {
+      log.error("Error file existing verification, path: " + path, e);
+      return false;
+    }
+  }
+
+  /**
+   * Verifies if at least one object is stored under the prefix, lists a single key only
+   *
+   * @param prefix - the prefix (folder) on S3-compatible storage
+   * @return true if any object exists under the prefix, otherwise - false
+   */
+  public boolean existsByPrefix(String prefix) {
+    prefix = getS3Path(prefix);
     var iterator = client.listObjects(ListObjectsArgs.builder()
         .bucket(bucket)
         .region(region)
-        .prefix(path)
+        .prefix(prefix)
         .maxKeys(1)
         .build())
       .iterator();
     try {
       return iterator.hasNext() && Objects.nonNull(iterator.next().get());
     } catch (Exception e) {
-      log.error("Error file existing verification, path: " + path, e);
+      log.error("Error prefix existing verification, prefix: " + prefix, e);
       return false;
     }
   }
@@ -429,13 +794,28 @@ public class BaseFilesStorage implements S3CompatibleStorage {
    * @throws IOException - if an I/O error occurs reading from the file
    */
   public InputStream newInputStream(String path) throws IOException {
+    return newInputStream(path, 0);
+  }
+
+  /**
+   * Opens a file, returning an input stream to read from the file starting at the given byte
+   *
+   * @param path   - the path to the file on S3-compatible storage
+   * @param offset - number of bytes to skip from the beginning of the file
+   * @return a new input stream
+   * @throws IOException - if an I/O error occurs reading from the file
+   */
+  public InputStream newInputStream(String path, long offset) throws IOException {
     path = getS3Path(path);
     try {
-      return client.getObject(GetObjectArgs.builder()
+      var args = GetObjectArgs.builder()
         .bucket(bucket)
         .region(region)
-        .object(path)
-        .build());
+        .object(path);
+      if (offset > 0) {
+        args.offset(offset);
+      }
+      return client.getObject(args.build());
     } catch (Exception e) {
       throw new IOException("Error creating input stream for path: " + path, e);
     }
@@ -467,6 +847,19 @@ public class BaseFilesStorage implements S3CompatibleStorage {
     return new BufferedReader(new InputStreamReader(newInputStream(path))).lines();
   }
 
+  /**
+   * Counts lines of a file
+   *
+   * @param path - the path to the file on S3-compatible storage
+   * @return the number of lines in the file
+   * @throws IOException - if an I/O error occurs reading from the file
+   */
+  public long countLines(String path) throws IOException {
+    try (var lines = lines(path)) {
+      return lines.count();
+    }
+  }
+
   /**
    * Read number lines from a file as a {@code Stream}
    *
@@ -504,34 +897,45 @@ public class BaseFilesStorage implements S3CompatibleStorage {
     }
   }
 
+  /**
+   * Opens an output stream to a file, the content is spooled to a temporary local file
+   * and stored with a single streamed write when the stream is closed
+   *
+   * @param path - the path to the file on S3-compatible storage
+   * @return a new output stream
+   * @throws FileOperationException if the temporary file cannot be created
+   */
   public OutputStream newOutputStream(String path) {
+    try {
+      var spool = Files.createTempFile("storage-", ".tmp");
+      return new FilterOutputStream(new BufferedOutputStream(Files.newOutputStream(spool))) {
 
+        private boolean closed;
 
-    return new OutputStream() {
-
-      byte[] buffer = new byte[0];
-
-      @Override
-      public void write(int b) {
-        buffer = ArrayUtils.add(buffer, (byte) b);
-      }
-
-      @Override
-      public void flush() {
-//        throw new NotImplementedException("Method isn't implemented yet");
-      }
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          out.write(b, off, len);
+        }
 
-      @Override
-      public void close() {
-        try {
-          BaseFilesStorage.this.write(path, buffer);
-        } catch (IOException e) {
-          throw new FileOperationException("Error closing stream and writes bytes to path: " + path, e);
-        } finally {
-          buffer = new byte[0];
+        @Override
+        public void close() {
+          if (closed) {
+            return;
+          }
+          closed = true;
+          try {
+            super.close();
+            BaseFilesStorage.this.writeFile(path, spool);
+          } catch (IOException e) {
+            throw new FileOperationException("Error closing stream and writes bytes to path: " + path, e);
+          } finally {
+            FileUtils.deleteQuietly(spool.toFile());
+          }
         }
-      }
-    };
+      };
+    } catch (IOException e) {
+      throw new FileOperationException("Cannot open stream for path: " + path, e);
+    }
   }
 
   public BufferedWriter writer(String path) {
@@ -1,10 +1,21 @@
 package org.folio.dew.repository;
 
+import java.time.LocalDateTime;
 import org.folio.de.entity.EHoldingsPackage;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface EHoldingsPackageRepository extends CrudRepository<EHoldingsPackage, EHoldingsPackage.PackageId> {
-  void deleteAllByJobExecutionId(Long jobExecutionId);
+  @Modifying
+  @Query(value = "DELETE FROM e_holdings_package WHERE job_execution_id = :jobExecutionId", nativeQuery = true)
+  int deleteAllByJobExecutionId(Long jobExecutionId);
+
+  @Modifying
+  @Query(value = "DELETE FROM e_holdings_package t WHERE NOT EXISTS (" +
+    "SELECT 1 FROM batch_job_execution e WHERE e.job_execution_id = t.job_execution_id " +
+    "AND e.end_time IS NULL AND e.create_time > :startedAfter)", nativeQuery = true)
+  int deleteOrphans(LocalDateTime startedAfter);
 }
@@ -0,0 +1,13 @@
+package org.folio.dew.repository;
+
+import java.util.List;
+import org.folio.de.entity.EHoldingsResource;
+
+public interface EHoldingsResourceBatchRepository {
+
+  /**
+   * Writes the resources with one batched JDBC statement, bypassing the persistence context.
+   * Resources already staged for the same job are overwritten.
+   */
+  void upsertAll(List<EHoldingsResource> resources);
+}
@@ -0,0 +1,36 @@
+package org.folio.dew.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.folio.de.entity.EHoldingsResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class EHoldingsResourceBatchRepositoryImpl implements EHoldingsResourceBatchRepository {
+
+  private static final String UPSERT_SQL = "INSERT INTO e_holdings_resource "
+    + "(id, job_execution_id, name, resources_data, agreements, notes) VALUES (?, ?, ?, ?, ?, ?) "
+    + "ON CONFLICT (job_execution_id, id) DO UPDATE SET name = EXCLUDED.name, "
+    + "resources_data = EXCLUDED.resources_data, agreements = EXCLUDED.agreements, notes = EXCLUDED.notes";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void upsertAll(List<EHoldingsResource> resources) {
+    if (resources.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(UPSERT_SQL, resources, resources.size(), EHoldingsResourceBatchRepositoryImpl::setValues);
+  }
+
+  private static void setValues(PreparedStatement ps, EHoldingsResource resource) throws SQLException {
+    ps.setString(1, resource.getId());
+    ps.setLong(2, resource.getJobExecutionId());
+    ps.setString(3, resource.getName());
+    ps.setString(4, resource.getResourcesData());
+    ps.setString(5, resource.getAgreements());
+    ps.setString(6, resource.getNotes());
+  }
+}
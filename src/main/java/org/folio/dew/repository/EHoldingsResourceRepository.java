@@ -1,13 +1,16 @@
 package org.folio.dew.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import org.folio.de.entity.EHoldingsResource;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface EHoldingsResourceRepository extends CrudRepository<EHoldingsResource, EHoldingsResource.ResourceId> {
+public interface EHoldingsResourceRepository extends CrudRepository<EHoldingsResource, EHoldingsResource.ResourceId>,
+  EHoldingsResourceBatchRepository {
     @Query(value = "SELECT * FROM e_holdings_resource " +
       "WHERE job_execution_id = :jobExecutionId " +
       "AND (lower(name), id) > (:previousName, :previousId) " +
@@ -15,5 +18,13 @@ public interface EHoldingsResourceRepository extends CrudRepository<EHoldingsRes
       "LIMIT :limit", nativeQuery = true)
   List<EHoldingsResource> seek(String previousName, String previousId, Long jobExecutionId, Integer limit);
 
-  void deleteAllByJobExecutionId(Long jobExecutionId);
+  @Modifying
+  @Query(value = "DELETE FROM e_holdings_resource WHERE job_execution_id = :jobExecutionId", nativeQuery = true)
+  int deleteAllByJobExecutionId(Long jobExecutionId);
+
+  @Modifying
+  @Query(value = "DELETE FROM e_holdings_resource t WHERE NOT EXISTS (" +
+    "SELECT 1 FROM batch_job_execution e WHERE e.job_execution_id = t.job_execution_id " +
+    "AND e.end_time IS NULL AND e.create_time > :startedAfter)", nativeQuery = true)
+  int deleteOrphans(LocalDateTime startedAfter);
 }
@@ -5,19 +5,22 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.net.ftp.FTP;
 import org.apache.commons.net.ftp.FTPClient;
+import org.apache.commons.net.ftp.FTPFile;
 import org.apache.commons.net.ftp.FTPReply;
 import org.folio.dew.config.properties.FTPProperties;
 import org.folio.dew.exceptions.FtpException;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.stereotype.Repository;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.regex.Pattern;
 
+import static org.folio.dew.repository.ResumableInputSource.PART_FILE_SUFFIX;
+
 @Log4j2
 @Repository
 public class FTPObjectStorageRepository {
@@ -86,18 +89,49 @@ public class FTPObjectStorageRepository {
                      String path,
                      String filename,
                      byte[] fileByteContent) throws Exception {
+    upload(ftpUrl, username, password, path, filename, ResumableInputSource.of(fileByteContent), false);
+  }
+
+  /**
+   * Streams the content to the ftp server. The content is written to a partial file which is renamed to the target
+   * name once complete. When resuming, the bytes already present in the partial file of a previous attempt are skipped
+   * and the rest of the content is appended to it, a file which does not match the content is uploaded again.
+   */
+  public void upload(String ftpUrl,
+                     String username,
+                     String password,
+                     String path,
+                     String filename,
+                     ResumableInputSource source,
+                     boolean resume) throws Exception {
 
     String remoteAbsPath = path + File.separator + filename;
+    String partFilename = filename + PART_FILE_SUFFIX;
 
     FTPClient ftpClient = login(ftpUrl, username, password);
-    try (InputStream is = new ByteArrayInputStream(fileByteContent)) {
+    try {
       ftpClient.setFileType(FTP.BINARY_FILE_TYPE);
       ftpClient.enterLocalPassiveMode();
       changeWorkingDirectory(ftpClient, path);
-      if (!ftpClient.storeFile(filename, is)) {
+      long size = source.size();
+      long offset = resume ? getRemoteFileSize(ftpClient, partFilename) : 0;
+      if (offset > size) {
+        log.warn("Partial file at ftp path: {} is larger than the content, uploading it again", remoteAbsPath);
+        offset = 0;
+      }
+      if (offset == 0 || offset < size) {
+        try (InputStream is = source.open(offset)) {
+          boolean stored = offset > 0 ? ftpClient.appendFile(partFilename, is) : ftpClient.storeFile(partFilename, is);
+          if (!stored) {
+            throw getFtpException(ftpClient, ERROR_FILE_UPLOAD_FAILED);
+          }
+        }
+      }
+      ftpClient.deleteFile(filename);
+      if (!ftpClient.rename(partFilename, filename)) {
         throw getFtpException(ftpClient, ERROR_FILE_UPLOAD_FAILED);
       }
-      log.info("File uploaded to ftp path: {}", remoteAbsPath);
+      log.info("File uploaded to ftp path: {}{}", remoteAbsPath, offset > 0 ? " resuming from byte " + offset : "");
 
     } catch (Exception e) {
       log.error("Error uploading to ftp path: {}", remoteAbsPath, e);
@@ -107,6 +141,11 @@ public class FTPObjectStorageRepository {
     }
   }
 
+  private long getRemoteFileSize(FTPClient ftpClient, String filename) throws IOException {
+    FTPFile[] files = ftpClient.listFiles(filename);
+    return files.length == 1 && files[0].isFile() ? Math.max(files[0].getSize(), 0) : 0;
+  }
+
   @SneakyThrows
   private void changeWorkingDirectory(FTPClient ftpClient, String path) {
     for (String dir : path.split(Pattern.quote(File.separator))) {
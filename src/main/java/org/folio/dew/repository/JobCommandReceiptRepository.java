@@ -0,0 +1,59 @@
+package org.folio.dew.repository;
+
+import java.time.Duration;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.folio.de.entity.JobCommandType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Receipts of processed job commands, unique per job id and command type. A receipt is IN_PROGRESS until the job
+ * of the command is launched, an IN_PROGRESS receipt older than the lease may be taken over by a redelivered command.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobCommandReceiptRepository {
+
+  private static final String IN_PROGRESS = "IN_PROGRESS";
+  private static final String LAUNCHED = "LAUNCHED";
+  private static final String REGISTER_SQL = "INSERT INTO job_command_receipt (job_id, job_command_type, status) VALUES (?, ?, '"
+    + IN_PROGRESS + "') ON CONFLICT (job_id, job_command_type) DO UPDATE SET received_date = NOW() "
+    + "WHERE job_command_receipt.status = '" + IN_PROGRESS + "' "
+    + "AND job_command_receipt.received_date < NOW() - ? * INTERVAL '1 millisecond'";
+  private static final String MARK_LAUNCHED_SQL = "UPDATE job_command_receipt SET status = '" + LAUNCHED + "' "
+    + "WHERE job_id = ? AND job_command_type = ?";
+  private static final String IS_LAUNCHED_SQL = "SELECT COUNT(*) FROM job_command_receipt "
+    + "WHERE job_id = ? AND job_command_type = ? AND status = '" + LAUNCHED + "'";
+  private static final String DELETE_SQL = "DELETE FROM job_command_receipt WHERE job_id = ? AND job_command_type = ?";
+  private static final String DELETE_BY_JOB_SQL = "DELETE FROM job_command_receipt WHERE job_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Stores the IN_PROGRESS receipt of the command or takes over the one whose lease expired,
+   * the unique constraint makes concurrent registrations safe.
+   *
+   * @return true if the command may be processed, false if it is launched or being launched by another delivery
+   */
+  public boolean register(UUID jobId, JobCommandType type, Duration lease) {
+    return jdbcTemplate.update(REGISTER_SQL, jobId, type.name(), lease.toMillis()) > 0;
+  }
+
+  public void markLaunched(UUID jobId, JobCommandType type) {
+    jdbcTemplate.update(MARK_LAUNCHED_SQL, jobId, type.name());
+  }
+
+  public boolean isLaunched(UUID jobId, JobCommandType type) {
+    var count = jdbcTemplate.queryForObject(IS_LAUNCHED_SQL, Integer.class, jobId, type.name());
+    return count != null && count > 0;
+  }
+
+  public void remove(UUID jobId, JobCommandType type) {
+    jdbcTemplate.update(DELETE_SQL, jobId, type.name());
+  }
+
+  public void removeAll(UUID jobId) {
+    jdbcTemplate.update(DELETE_BY_JOB_SQL, jobId);
+  }
+}
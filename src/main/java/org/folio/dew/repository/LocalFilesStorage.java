@@ -1,16 +1,319 @@
 package org.folio.dew.repository;
 
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.dew.config.properties.LocalFilesStorageProperties;
+import org.folio.dew.error.FileOperationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.folio.dew.utils.Constants.PATH_SEPARATOR;
+
 /**
- * Local FS to S3-compatible storage adapter.
+ * Local FS to S3-compatible storage adapter. Temporary files are kept in the S3-compatible storage unless a local
+ * directory is configured, then files are read and written directly on the disk and reach the remote storage
+ * only when promoted by {@link RemoteFilesStorage#uploadObject}.
  */
 @Repository
 @Log4j2
 public class LocalFilesStorage extends BaseFilesStorage{
-  public LocalFilesStorage(LocalFilesStorageProperties properties) {
-    super(properties);
+
+  private static final long MAX_MAPPED_REGION_SIZE = Integer.MAX_VALUE;
+
+  private final Path diskRoot;
+
+  public LocalFilesStorage(LocalFilesStorageProperties properties,
+                           @Qualifier("storageDeleteExecutor") TaskExecutor deleteExecutor,
+                           @Qualifier("storageAssemblyExecutor") TaskExecutor assemblyExecutor) {
+    super(properties, deleteExecutor, assemblyExecutor, StringUtils.isBlank(properties.getDiskPath()));
+    if (StringUtils.isBlank(properties.getDiskPath())) {
+      diskRoot = null;
+    } else {
+      diskRoot = Path.of(properties.getDiskPath()).toAbsolutePath().normalize();
+      try {
+        Files.createDirectories(diskRoot);
+      } catch (IOException e) {
+        throw new FileOperationException("Cannot create local files directory: " + diskRoot, e);
+      }
+      log.info("Local files are kept on disk in {}.", diskRoot);
+    }
+  }
+
+  public boolean isDiskBacked() {
+    return diskRoot != null;
+  }
+
+  @Override
+  public String upload(String path, String filename) throws IOException {
+    if (!isDiskBacked()) {
+      return super.upload(path, filename);
+    }
+    return writeFile(path, Path.of(filename));
+  }
+
+  @Override
+  public String write(String path, byte[] bytes, Map<String, String> headers) throws IOException {
+    if (!isDiskBacked()) {
+      return super.write(path, bytes, headers);
+    }
+    var file = createParentDirectories(path);
+    Files.write(file, bytes);
+    return getS3Path(path);
+  }
+
+  @Override
+  public String writeFile(String path, Path inputPath, Map<String, String> headers) throws IOException {
+    if (!isDiskBacked()) {
+      return super.writeFile(path, inputPath, headers);
+    }
+    Files.copy(inputPath, createParentDirectories(path), StandardCopyOption.REPLACE_EXISTING);
+    return getS3Path(path);
+  }
+
+  @Override
+  public String write(String path, InputStream is, long size, Map<String, String> headers) throws IOException {
+    if (!isDiskBacked()) {
+      return super.write(path, is, size, headers);
+    }
+    Files.copy(is, createParentDirectories(path), StandardCopyOption.REPLACE_EXISTING);
+    return getS3Path(path);
+  }
+
+  /**
+   * Copies a file of the source storage; a file on disk is copied through a stream, server side copy is only
+   * available between object storages.
+   */
+  @Override
+  public String copyFrom(BaseFilesStorage source, String sourcePath, String path, Map<String, String> headers) throws IOException {
+    if (!isDiskBacked()) {
+      return super.copyFrom(source, sourcePath, path, headers);
+    }
+    try (var is = source.newInputStream(sourcePath)) {
+      return write(path, is, source.size(sourcePath), headers);
+    }
+  }
+
+  /**
+   * Assembles a file from the source files, a file on disk is assembled by concatenating the sources.
+   */
+  @Override
+  public String assemble(String path, List<String> sourceObjects, Map<String, String> headers) throws IOException {
+    if (!isDiskBacked()) {
+      return super.assemble(path, sourceObjects, headers);
+    }
+    var destination = createParentDirectories(path);
+    try (var output = FileChannel.open(destination, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+      StandardOpenOption.TRUNCATE_EXISTING)) {
+      for (var sourceObject : sourceObjects) {
+        try (var input = FileChannel.open(toFile(sourceObject), StandardOpenOption.READ)) {
+          var size = input.size();
+          for (long position = 0; position < size; ) {
+            position += input.transferTo(position, size - position, output);
+          }
+        }
+      }
+    }
+    return getS3Path(path);
+  }
+
+  @Override
+  public long size(String path) throws IOException {
+    if (!isDiskBacked()) {
+      return super.size(path);
+    }
+    return Files.size(toFile(path));
+  }
+
+  @Override
+  public void append(String path, byte[] bytes) throws IOException {
+    if (!isDiskBacked()) {
+      super.append(path, bytes);
+      return;
+    }
+    Files.write(createParentDirectories(path), bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+  }
+
+  @Override
+  public void delete(String path) {
+    if (!isDiskBacked()) {
+      super.delete(path);
+      return;
+    }
+    try (var paths = walk(path)) {
+      var errors = removeObjects(paths.toList());
+      if (!errors.isEmpty()) {
+        log.error("Cannot delete {} files under {}.", errors.size(), path);
+      }
+      var folder = toFile(path);
+      if (Files.isDirectory(folder)) {
+        deleteEmptyDirectories(folder);
+      }
+    } catch (Exception e) {
+      throw new FileOperationException("Cannot delete file: " + path, e);
+    }
+  }
+
+  @Override
+  public List<ObjectDeletionError> removeObjects(Collection<String> objects) {
+    if (!isDiskBacked()) {
+      return super.removeObjects(objects);
+    }
+    var errors = new ArrayList<ObjectDeletionError>();
+    for (var object : objects) {
+      try {
+        Files.deleteIfExists(toFile(object));
+      } catch (IOException e) {
+        log.error("Cannot delete file: {}, {}", object, e.getMessage());
+        errors.add(new ObjectDeletionError(object, e.getMessage()));
+      }
+    }
+    return errors;
+  }
+
+  @Override
+  public Stream<String> walk(String path) {
+    if (!isDiskBacked()) {
+      return super.walk(path);
+    }
+    // same semantics as listing by prefix: the path is either a folder or the beginning of file names
+    var prefix = getS3Path(path);
+    var file = toFile(path);
+    var folder = Files.isDirectory(file) ? file : file.getParent();
+    if (folder == null || !Files.isDirectory(folder)) {
+      return Stream.empty();
+    }
+    try {
+      return Files.walk(folder)
+        .filter(Files::isRegularFile)
+        .map(this::toKey)
+        .filter(key -> key.startsWith(prefix))
+        .sorted();
+    } catch (IOException e) {
+      throw new FileOperationException("Cannot read folder: " + path, e);
+    }
+  }
+
+  @Override
+  public boolean exists(String path) {
+    if (!isDiskBacked()) {
+      return super.exists(path);
+    }
+    return Files.isRegularFile(toFile(path));
+  }
+
+  @Override
+  public boolean existsByPrefix(String prefix) {
+    if (!isDiskBacked()) {
+      return super.existsByPrefix(prefix);
+    }
+    try (var paths = walk(prefix)) {
+      return paths.findAny().isPresent();
+    }
+  }
+
+  @Override
+  public InputStream newInputStream(String path, long offset) throws IOException {
+    if (!isDiskBacked()) {
+      return super.newInputStream(path, offset);
+    }
+    var channel = Files.newByteChannel(toFile(path));
+    if (offset > 0) {
+      channel.position(offset);
+    }
+    return Channels.newInputStream(channel);
+  }
+
+  @Override
+  public byte[] readAllBytes(String path) throws IOException {
+    if (!isDiskBacked()) {
+      return super.readAllBytes(path);
+    }
+    return Files.readAllBytes(toFile(path));
+  }
+
+  /**
+   * Counts lines of a file, a file on disk is scanned through memory-mapped regions without decoding its content.
+   * Line terminators are the same as for {@link #lines(String)}: "\n", "\r" and "\r\n".
+   */
+  @Override
+  public long countLines(String path) throws IOException {
+    if (!isDiskBacked()) {
+      return super.countLines(path);
+    }
+    try (var channel = FileChannel.open(toFile(path), StandardOpenOption.READ)) {
+      var size = channel.size();
+      long count = 0;
+      byte previous = '\n';
+      for (long position = 0; position < size; position += MAX_MAPPED_REGION_SIZE) {
+        var region = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_MAPPED_REGION_SIZE, size - position));
+        while (region.hasRemaining()) {
+          var current = region.get();
+          if (current == '\n' || previous == '\r') {
+            count++;
+          }
+          previous = current;
+        }
+      }
+      return previous == '\n' ? count : count + 1;
+    }
+  }
+
+  @Override
+  public OutputStream newOutputStream(String path) {
+    if (!isDiskBacked()) {
+      return super.newOutputStream(path);
+    }
+    try {
+      return Files.newOutputStream(createParentDirectories(path));
+    } catch (IOException e) {
+      throw new FileOperationException("Cannot open file for writing: " + path, e);
+    }
+  }
+
+  private Path toFile(String path) {
+    var file = diskRoot.resolve(getS3Path(path)).normalize();
+    if (!file.startsWith(diskRoot)) {
+      throw new FileOperationException("Path is outside of local files directory: " + path);
+    }
+    return file;
+  }
+
+  private String toKey(Path file) {
+    return diskRoot.relativize(file).toString().replace(file.getFileSystem().getSeparator(), PATH_SEPARATOR);
+  }
+
+  private Path createParentDirectories(String path) throws IOException {
+    var file = toFile(path);
+    Files.createDirectories(file.getParent());
+    return file;
+  }
+
+  private void deleteEmptyDirectories(Path folder) throws IOException {
+    try (var folders = Files.walk(folder)) {
+      for (var directory : folders.filter(Files::isDirectory).sorted(Comparator.reverseOrder()).toList()) {
+        try (var entries = Files.list(directory)) {
+          if (entries.findAny().isEmpty()) {
+            Files.delete(directory);
+          }
+        }
+      }
+    }
   }
 }
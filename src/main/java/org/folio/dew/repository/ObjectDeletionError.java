@@ -0,0 +1,10 @@
+package org.folio.dew.repository;
+
+/**
+ * Object which could not be deleted from S3-compatible storage.
+ *
+ * @param object  - the path to the object on S3-compatible storage
+ * @param message - the reason reported for the object
+ */
+public record ObjectDeletionError(String object, String message) {
+}
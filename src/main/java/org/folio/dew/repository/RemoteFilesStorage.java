@@ -1,13 +1,9 @@
 package org.folio.dew.repository;
 
-import io.minio.ComposeObjectArgs;
-import io.minio.ComposeSource;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.minio.GetPresignedObjectUrlArgs;
-import io.minio.ListObjectsArgs;
 import io.minio.MinioClient;
-import io.minio.ObjectWriteArgs;
-import io.minio.RemoveObjectsArgs;
-import io.minio.Result;
 import io.minio.errors.ErrorResponseException;
 import io.minio.errors.InsufficientDataException;
 import io.minio.errors.InternalException;
@@ -15,23 +11,25 @@ import io.minio.errors.InvalidResponseException;
 import io.minio.errors.ServerException;
 import io.minio.errors.XmlParserException;
 import io.minio.http.Method;
-import io.minio.messages.DeleteError;
-import io.minio.messages.DeleteObject;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
-import io.minio.messages.Item;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.dew.config.properties.RemoteFilesStorageProperties;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Repository;
 
@@ -49,13 +47,17 @@ public class RemoteFilesStorage extends BaseFilesStorage {
   private final String bucket;
   private final String region;
   private final int urlExpirationTimeInSeconds;
+  private final Cache<String, String> presignedUrls;
 
-  public RemoteFilesStorage(RemoteFilesStorageProperties properties) {
-    super(properties);
+  public RemoteFilesStorage(RemoteFilesStorageProperties properties,
+                            @Qualifier("storageDeleteExecutor") TaskExecutor deleteExecutor,
+                            @Qualifier("storageAssemblyExecutor") TaskExecutor assemblyExecutor) {
+    super(properties, deleteExecutor, assemblyExecutor);
     this.bucket = properties.getBucket();
     this.region = properties.getRegion();
     this.urlExpirationTimeInSeconds = properties.getUrlExpirationTimeInSeconds();
     this.client = getMinioClient();
+    this.presignedUrls = createPresignedUrlsCache(properties);
   }
 
   public String uploadObject(String object, String filename, String downloadFilename, String contentType, boolean isSourceShouldBeDeleted)
@@ -63,7 +65,15 @@ public class RemoteFilesStorage extends BaseFilesStorage {
     log.info("Uploading object {},filename {},downloadFilename {},contentType {}.", object, filename, downloadFilename,
         contentType);
 
-    var result = write(object, localFilesStorage.readAllBytes(filename), prepareHeaders(downloadFilename, contentType));
+    var headers = prepareHeaders(downloadFilename, contentType);
+    String result;
+    if (isSameEndpoint(localFilesStorage)) {
+      result = copyFrom(localFilesStorage, filename, object, headers);
+    } else {
+      try (var is = localFilesStorage.newInputStream(filename)) {
+        result = write(object, is, localFilesStorage.size(filename), headers);
+      }
+    }
 
     if (isSourceShouldBeDeleted) {
       localFilesStorage.delete(filename);
@@ -73,63 +83,119 @@ public class RemoteFilesStorage extends BaseFilesStorage {
     return result;
   }
 
-  public boolean containsFile(String fileName)
-    throws ServerException, InsufficientDataException, ErrorResponseException, IOException, NoSuchAlgorithmException,
-    InvalidKeyException, InvalidResponseException, XmlParserException, InternalException {
-    fileName = getS3Path(fileName);
-    for (Result<Item> itemResult : client.listObjects(ListObjectsArgs.builder().bucket(bucket).prefix(getS3Path(fileName)).build())) {
-      if (fileName.equals(itemResult.get().objectName())) {
-        return true;
-      }
-    }
-    return false;
+  public boolean containsFile(String fileName) {
+    return exists(fileName);
   }
 
+  /**
+   * Assembles the object from the source objects, see {@link #assemble(String, List, Map)}, and deletes the sources
+   *
+   * @return the path to the assembled object
+   */
   public String composeObject(String destObject, List<String> sourceObjects, String downloadFilename,
-      String contentType)
-      throws IOException, InvalidKeyException, InvalidResponseException, InsufficientDataException, NoSuchAlgorithmException,
-      ServerException, InternalException, XmlParserException, ErrorResponseException {
+      String contentType) throws IOException {
     destObject = getS3Path(destObject);
-    List<ComposeSource> sources = sourceObjects.stream()
-        .map(so -> ComposeSource.builder().bucket(bucket).object(getS3Path(so)).build())
-        .collect(Collectors.toList());
+    evictPresignedUrl(destObject);
     log.info("Composing object {},sources [{}],downloadFilename {},contentType {}.", destObject,
-        sources.stream().map(s -> String.format("bucket %s,object %s", s.bucket(), s.object())).collect(Collectors.joining(",")),
+        sourceObjects.stream().map(so -> String.format("bucket %s,object %s", bucket, getS3Path(so))).collect(Collectors.joining(",")),
         downloadFilename, contentType);
-    var result = client.composeObject(
-        createArgs(ComposeObjectArgs.builder().sources(sources), destObject, downloadFilename, contentType)).object();
+    var result = assemble(destObject, sourceObjects, prepareHeaders(downloadFilename, contentType));
 
     removeObjects(sourceObjects);
 
     return result;
   }
 
-  public Iterable<Result<DeleteError>> removeObjects(List<String> objects) {
-    log.info("Deleting objects [{}].", StringUtils.join(objects, ","));
-    return client.removeObjects(RemoveObjectsArgs.builder()
-        .bucket(bucket)
-        .objects(objects.stream().map(this::getS3Path).map(DeleteObject::new).toList())
-        .build());
+  @Override
+  public List<ObjectDeletionError> removeObjects(Collection<String> objects) {
+    log.info("Deleting {} objects.", objects.size());
+    objects.forEach(this::evictPresignedUrl);
+    return super.removeObjects(objects);
   }
 
+  /**
+   * Returns presigned url for the object. Generated urls are reused for a configured fraction of their expiration time,
+   * so that frequent polling does not sign the same object again; cached url is evicted when the object is overwritten or deleted.
+   *
+   * @param object - the path to the object on S3-compatible storage
+   * @return presigned url
+   */
   public String objectToPresignedObjectUrl(String object)
     throws IOException, InvalidKeyException, InvalidResponseException, InsufficientDataException, NoSuchAlgorithmException,
     ServerException, InternalException, XmlParserException, ErrorResponseException {
+    var path = getS3Path(object);
+    var cached = presignedUrls.getIfPresent(path);
+    if (cached != null) {
+      log.debug("Reused presigned URL for object {}.", path);
+      return cached;
+    }
     String result = client.getPresignedObjectUrl(GetPresignedObjectUrlArgs.builder()
       .method(Method.GET)
       .bucket(bucket)
-      .object(getS3Path(object))
+      .object(path)
       .region(region)
       .expiry(urlExpirationTimeInSeconds, TimeUnit.SECONDS)
       .build());
+    presignedUrls.put(path, result);
     log.info("Created presigned URL {}.", result);
     return result;
   }
 
-  private <T extends ObjectWriteArgs, B extends ObjectWriteArgs.Builder<B, T>> T createArgs(B builder, String object,
-      String downloadFilename, String contentType) {
-    Map<String, String> headers = prepareHeaders(downloadFilename, contentType);
-    return builder.headers(headers).object(object).bucket(bucket).build();
+  @Override
+  public String upload(String path, String filename) throws IOException {
+    evictPresignedUrl(path);
+    return super.upload(path, filename);
+  }
+
+  @Override
+  public String write(String path, byte[] bytes, Map<String, String> headers) throws IOException {
+    evictPresignedUrl(path);
+    return super.write(path, bytes, headers);
+  }
+
+  @Override
+  public String writeFile(String path, Path inputPath, Map<String, String> headers) throws IOException {
+    evictPresignedUrl(path);
+    return super.writeFile(path, inputPath, headers);
+  }
+
+  @Override
+  public String write(String path, InputStream is, long size, Map<String, String> headers) throws IOException {
+    evictPresignedUrl(path);
+    return super.write(path, is, size, headers);
+  }
+
+  @Override
+  public String copyFrom(BaseFilesStorage source, String sourcePath, String path, Map<String, String> headers) throws IOException {
+    evictPresignedUrl(path);
+    return super.copyFrom(source, sourcePath, path, headers);
+  }
+
+  @Override
+  public void append(String path, byte[] bytes) throws IOException {
+    evictPresignedUrl(path);
+    super.append(path, bytes);
+  }
+
+  @Override
+  public void delete(String path) {
+    var prefix = getS3Path(path);
+    presignedUrls.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    super.delete(path);
+  }
+
+  private void evictPresignedUrl(String object) {
+    presignedUrls.invalidate(getS3Path(object));
+  }
+
+  private Cache<String, String> createPresignedUrlsCache(RemoteFilesStorageProperties properties) {
+    var ttl = (long) (urlExpirationTimeInSeconds * properties.getPresignedUrlCacheRatio());
+    var maxSize = ttl > 0 ? properties.getPresignedUrlCacheMaxSize() : 0;
+    log.info("Presigned URLs cache ttl {} seconds, max size {}.", ttl, maxSize);
+    return Caffeine.newBuilder()
+      .expireAfterWrite(Math.max(ttl, 0), TimeUnit.SECONDS)
+      .maximumSize(maxSize)
+      .build();
   }
 
   private Map<String, String> prepareHeaders(String downloadFilename, String contentType) {
@@ -0,0 +1,48 @@
+package org.folio.dew.repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Source of uploaded content which can be reopened from any byte, so an interrupted upload
+ * can be continued instead of being restarted.
+ */
+public interface ResumableInputSource {
+
+  /**
+   * Suffix of the remote file an upload is written to before it is renamed, only this file is ever resumed.
+   */
+  String PART_FILE_SUFFIX = ".part";
+
+  /**
+   * Opens the content starting at the given byte.
+   *
+   * @param offset - number of bytes already uploaded, not greater than {@link #size()}
+   * @return a new input stream
+   * @throws IOException - if the content can not be opened
+   */
+  InputStream open(long offset) throws IOException;
+
+  /**
+   * Returns the total length of the content, it tells whether a partially uploaded file is complete.
+   *
+   * @return number of bytes of the content
+   * @throws IOException - if the content can not be read
+   */
+  long size() throws IOException;
+
+  static ResumableInputSource of(byte[] content) {
+    return new ResumableInputSource() {
+      @Override
+      public InputStream open(long offset) {
+        return new ByteArrayInputStream(content, (int) offset, content.length - (int) offset);
+      }
+
+      @Override
+      public long size() {
+        return content.length;
+      }
+    };
+  }
+}
@@ -14,12 +14,13 @@ import org.springframework.integration.file.remote.session.Session;
 import org.springframework.integration.file.remote.session.SessionFactory;
 import org.springframework.stereotype.Repository;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.concurrent.TimeUnit;
 
+import static org.folio.dew.repository.ResumableInputSource.PART_FILE_SUFFIX;
+
 @Log4j2
 @Repository
 @RequiredArgsConstructor
@@ -67,26 +68,64 @@ public class SFTPObjectStorageRepository {
 
   public boolean upload(String username, String password, String host, int port, String folder, String filename, byte[] content)
       throws Exception {
+    return upload(username, password, host, port, folder, filename, ResumableInputSource.of(content), false);
+  }
+
+  /**
+   * Streams the content to the sftp server. The content is written to a partial file which is renamed to the target
+   * name once complete. When resuming, the bytes already present in the partial file of a previous attempt are skipped
+   * and the rest of the content is appended to it, a file which does not match the content is uploaded again.
+   */
+  public boolean upload(String username, String password, String host, int port, String folder, String filename,
+      ResumableInputSource source, boolean resume) throws Exception {
     String folderPath = StringUtils.isEmpty(folder) ? "" : (folder + File.separator);
     String remoteAbsPath = folderPath + filename;
+    String partAbsPath = remoteAbsPath + PART_FILE_SUFFIX;
 
     SessionFactory<SftpClient.DirEntry> sshdFactory;
     try {
       sshdFactory = getSshdSessionFactory(username, password, host, port);
     } catch (Exception e) {
-      throw new EdifactException(String.format("Unable to connect to %s:%d", host, port));
+      throw new EdifactException(String.format("Unable to connect to %s:%d", host, port), e);
     }
-    try (InputStream inputStream = new ByteArrayInputStream(content); var session = sshdFactory.getSession()) {
+    try (var session = sshdFactory.getSession()) {
       log.info("Start uploading file to SFTP path: {}", remoteAbsPath);
 
       createRemoteDirectoryIfAbsent(session, folder);
-      session.write(inputStream, remoteAbsPath);
+      long size = source.size();
+      long offset = resume ? getRemoteFileSize(session, partAbsPath) : 0;
+      if (offset > size) {
+        log.warn("Partial file at SFTP path: {} is larger than the content, uploading it again", remoteAbsPath);
+        offset = 0;
+      }
+      if (offset == 0 || offset < size) {
+        try (InputStream inputStream = source.open(offset)) {
+          if (offset > 0) {
+            log.info("Resuming upload to SFTP path: {} from byte {}", remoteAbsPath, offset);
+            session.append(inputStream, partAbsPath);
+          } else {
+            session.write(inputStream, partAbsPath);
+          }
+        }
+      }
+      if (session.exists(remoteAbsPath)) {
+        session.remove(remoteAbsPath);
+      }
+      session.rename(partAbsPath, remoteAbsPath);
 
       return true;
     } catch (Exception e) {
       log.error("Error uploading to SFTP path: {}", remoteAbsPath, e);
-      throw new EdifactException(String.format("Unable to upload to sftp %s:%d, folder: %s. %s", host, port, folder, e.getMessage()));
+      throw new EdifactException(String.format("Unable to upload to sftp %s:%d, folder: %s. %s", host, port, folder, e.getMessage()), e);
+    }
+  }
+
+  private long getRemoteFileSize(Session<SftpClient.DirEntry> session, String path) throws IOException {
+    if (!session.exists(path)) {
+      return 0;
     }
+    SftpClient.DirEntry[] entries = session.list(path);
+    return entries.length == 1 && entries[0].getAttributes().isRegularFile() ? entries[0].getAttributes().getSize() : 0;
   }
 
   public byte[] download(SftpClient sftpClient, String path) {
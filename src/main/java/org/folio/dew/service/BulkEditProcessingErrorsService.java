@@ -20,12 +20,10 @@ import org.springframework.batch.core.JobExecution;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -111,25 +109,17 @@ public class BulkEditProcessingErrorsService {
 
   public String saveErrorFileAndGetDownloadLink(String jobId, JobExecution jobExecution) {
     var pathToStorage = getPathToStorage(jobId);
-    if (localFilesStorage.exists(pathToStorage)) {
-      try (Stream<String> stream = localFilesStorage.walk(pathToStorage)) {
-        Optional<String> csvErrorFile = stream.findFirst();
-        if (csvErrorFile.isPresent()) {
-          var filename = csvErrorFile.get();
-          var downloadFilename = jobId + PATH_SEPARATOR + FilenameUtils.getName(filename);
-          downloadFilename = validatePath(downloadFilename);
-          jobExecution.getExecutionContext().putString(PATH_TO_ERRORS, downloadFilename);
-          return saveErrorFile(downloadFilename, filename);
-        } else {
-          log.error("Download link cannot be created because CSV error file cannot be found at {}", pathToStorage);
-          throw new FileNotFoundException();
-        }
-      } catch (IOException e) {
-        log.error("Error occurred while getting the error csv file from storage", e);
-        throw new IllegalStateException(e);
+    try (Stream<String> stream = localFilesStorage.walk(pathToStorage)) {
+      Optional<String> csvErrorFile = stream.findFirst();
+      if (csvErrorFile.isPresent()) {
+        var filename = csvErrorFile.get();
+        var downloadFilename = jobId + PATH_SEPARATOR + FilenameUtils.getName(filename);
+        downloadFilename = validatePath(downloadFilename);
+        jobExecution.getExecutionContext().putString(PATH_TO_ERRORS, downloadFilename);
+        return saveErrorFile(downloadFilename, filename);
+      } else {
+        return null;
       }
-    } else {
-      return null;
     }
   }
 
@@ -163,10 +153,10 @@ public class BulkEditProcessingErrorsService {
 
   private String getCsvFileName(String jobId, String fileName) {
     var pathToStorage = getPathToStorage(jobId);
-    List<String> names = new ArrayList<>();
-
-    if (localFilesStorage.exists(pathToStorage)) {
-      names = localFilesStorage.walk(pathToStorage).map(x -> {
+    List<String> names;
+    // listing the job folder directly, an empty folder yields no names without a separate existence check
+    try (Stream<String> stream = localFilesStorage.walk(pathToStorage)) {
+      names = stream.map(x -> {
         var n = x.split("/");
         return n[n.length - 1];
       }).collect(Collectors.toList());
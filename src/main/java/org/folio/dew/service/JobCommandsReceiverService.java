@@ -14,6 +14,7 @@ import java.io.FileOutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,14 +26,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.kafka.common.TopicPartition;
 import org.folio.de.entity.JobCommand;
 import org.folio.de.entity.JobCommandType;
+import org.folio.dew.batch.ExportJobManagerAcquisitions;
 import org.folio.dew.batch.ExportJobManagerSync;
 import org.folio.dew.batch.acquisitions.edifact.services.ResendService;
 import org.folio.dew.client.SearchClient;
 import org.folio.dew.config.kafka.KafkaService;
+import org.folio.dew.config.properties.JobCommandsProperties;
 import org.folio.dew.domain.dto.JobParameterNames;
 import org.folio.dew.error.FileOperationException;
+import org.folio.dew.error.JobCommandInProgressException;
+import org.folio.dew.repository.JobCommandReceiptRepository;
 import org.folio.dew.repository.JobCommandRepository;
 import org.folio.dew.repository.LocalFilesStorage;
 import org.folio.dew.repository.RemoteFilesStorage;
@@ -40,11 +46,14 @@ import org.folio.spring.DefaultFolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionException;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.integration.launch.JobLaunchRequest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Headers;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
@@ -54,17 +63,22 @@ import org.springframework.stereotype.Service;
 @Log4j2
 public class JobCommandsReceiverService {
   private static final boolean JOB_PARAMETER_DEFAULT_IDENTIFYING_VALUE = false;
+  private static final Set<JobCommandType> SLOW_COMMAND_TYPES = EnumSet.of(JobCommandType.RESEND, JobCommandType.DELETE);
 
   private final FolioModuleMetadata folioModuleMetadata;
 
   private final ExportJobManagerSync exportJobManagerSync;
+  private final ExportJobManagerAcquisitions exportJobManagerAcquisitions;
   private final RemoteFilesStorage remoteFilesStorage;
   private final LocalFilesStorage localFilesStorage;
   private final BulkEditProcessingErrorsService bulkEditProcessingErrorsService;
   private final SearchClient searchClient;
   private final FileNameResolver fileNameResolver;
   private final JobCommandRepository jobCommandRepository;
+  private final JobCommandReceiptRepository jobCommandReceiptRepository;
   private final ResendService resendService;
+  private final JobCommandsWorkQueue jobCommandsWorkQueue;
+  private final JobCommandsProperties jobCommandsProperties;
   private final List<Job> jobs;
   private Map<String, Job> jobMap;
   @Value("${spring.application.name}")
@@ -81,51 +95,143 @@ public class JobCommandsReceiverService {
     workDir = getWorkingDirectory(springApplicationName, BULKEDIT_DIR_NAME);
   }
 
+  /**
+   * Receives job commands. Resend and delete commands are handed over to {@link JobCommandsWorkQueue} and
+   * acknowledged once processed, the other commands are acknowledged as soon as their job is launched.
+   * The container does not poll again until every command of the previous poll is acknowledged, so commands
+   * received while a resend is retried wait for it, up to the resend attempts and delays of the acquisitions job.
+   */
   @KafkaListener(
     concurrency = "${spring.kafka.listener.concurrency}",
     id = KafkaService.EVENT_LISTENER_ID,
     containerFactory = "kafkaListenerContainerFactory",
     topicPattern = "${application.kafka.topic-pattern}",
     groupId = "${application.kafka.group-id}")
-  public void receiveStartJobCommand(@Payload JobCommand jobCommand, @Headers Map<String, Object> messageHeaders) {
+  public void receiveStartJobCommand(@Payload JobCommand jobCommand, @Headers Map<String, Object> messageHeaders,
+                                     Acknowledgment acknowledgment) {
     var defaultFolioExecutionContext = DefaultFolioExecutionContext.fromMessageHeaders(folioModuleMetadata, messageHeaders);
 
     try (var context = new FolioExecutionContextSetter(defaultFolioExecutionContext)) {
       log.info("Received {}.", jobCommand);
 
-      try {
-        if (JobCommandType.RESEND.equals(jobCommand.getType())) {
-          resendService.resendExportedFile(jobCommand);
-          return;
-        }
+      if (SLOW_COMMAND_TYPES.contains(jobCommand.getType())) {
+        jobCommandsWorkQueue.submit(() -> processAndAcknowledge(jobCommand, acknowledgment), getTopicPartition(messageHeaders));
+        return;
+      }
 
-        if (deleteOldFiles(jobCommand)) {
-          return;
+      processAndAcknowledge(jobCommand, acknowledgment);
+    }
+  }
+
+  /**
+   * Acknowledges the command however its processing ends, with async acks an unacknowledged record blocks the
+   * commits of its partition. A command launched by another delivery is left to the error handler, which
+   * delivers it again.
+   */
+  private void processAndAcknowledge(JobCommand jobCommand, Acknowledgment acknowledgment) {
+    var redelivered = false;
+    try {
+      processJobCommand(jobCommand);
+    } catch (JobCommandInProgressException e) {
+      redelivered = true;
+      throw e;
+    } finally {
+      if (!redelivered) {
+        acknowledge(acknowledgment);
+      }
+    }
+  }
+
+  private void processJobCommand(JobCommand jobCommand) {
+    try {
+      if (JobCommandType.RESEND.equals(jobCommand.getType())) {
+        resendService.resendExportedFile(jobCommand);
+        return;
+      }
+
+      if (deleteOldFiles(jobCommand)) {
+        return;
+      }
+
+      if (!registerJobCommand(jobCommand)) {
+        if (!jobCommandReceiptRepository.isLaunched(jobCommand.getId(), jobCommand.getType())) {
+          // not acknowledged, the command is redelivered until the job is launched or the reservation expires
+          throw new JobCommandInProgressException(String.format("Job command %s of job %s is being launched by another delivery",
+            jobCommand.getType(), jobCommand.getId()));
         }
-        log.info("-----------------------------JOB---STARTS-----------------------------");
+        log.info("Job command {} of job {} was already received, skipping it.", jobCommand.getType(), jobCommand.getId());
+        return;
+      }
+      launchJob(jobCommand);
+      if (isTrackedJobCommand(jobCommand)) {
+        jobCommandReceiptRepository.markLaunched(jobCommand.getId(), jobCommand.getType());
+      }
+    } catch (JobCommandInProgressException e) {
+      throw e;
+    } catch (Exception e) {
+      log.error(e.toString(), e);
+    }
+  }
+
+  private void launchJob(JobCommand jobCommand) throws JobExecutionException {
+    try {
+      log.info("-----------------------------JOB---STARTS-----------------------------");
 
-        prepareJobParameters(jobCommand);
+      prepareJobParameters(jobCommand);
 
-        if (Set.of(BULK_EDIT_IDENTIFIERS, BULK_EDIT_QUERY).contains(jobCommand.getExportType())) {
-          addBulkEditJobCommand(jobCommand);
-          if (BULK_EDIT_IDENTIFIERS.equals(jobCommand.getExportType())) {
-            return;
-          }
+      if (Set.of(BULK_EDIT_IDENTIFIERS, BULK_EDIT_QUERY).contains(jobCommand.getExportType())) {
+        addBulkEditJobCommand(jobCommand);
+        if (BULK_EDIT_IDENTIFIERS.equals(jobCommand.getExportType())) {
+          return;
         }
+      }
 
-        var jobLaunchRequest =
-          new JobLaunchRequest(
-            jobMap.get(resolveJobKey(jobCommand)),
-            jobCommand.getJobParameters());
+      var jobLaunchRequest =
+        new JobLaunchRequest(
+          jobMap.get(resolveJobKey(jobCommand)),
+          jobCommand.getJobParameters());
 
+      if (EDIFACT_ORDERS_EXPORT.equals(jobCommand.getExportType())) {
+        exportJobManagerAcquisitions.launchJob(jobLaunchRequest);
+      } else {
         exportJobManagerSync.launchJob(jobLaunchRequest);
-
-      } catch (Exception e) {
-        log.error(e.toString(), e);
       }
+    } catch (Exception e) {
+      // the command was not handled, a repeated one may launch the job
+      jobCommandReceiptRepository.remove(jobCommand.getId(), jobCommand.getType());
+      throw e;
     }
   }
 
+  /**
+   * Job commands are redelivered after consumer rebalances, only the first delivery of a command of a job is handled.
+   * The receipt stays IN_PROGRESS until the job is launched, so a command lost between registration and launch
+   * is handled by its redelivery once the reservation expires.
+   */
+  private boolean registerJobCommand(JobCommand jobCommand) {
+    return !isTrackedJobCommand(jobCommand)
+      || jobCommandReceiptRepository.register(jobCommand.getId(), jobCommand.getType(), jobCommandsProperties.getReceiptLease());
+  }
+
+  private boolean isTrackedJobCommand(JobCommand jobCommand) {
+    return jobCommand.getId() != null && jobCommand.getType() != null;
+  }
+
+  private void acknowledge(Acknowledgment acknowledgment) {
+    if (nonNull(acknowledgment)) {
+      acknowledgment.acknowledge();
+    }
+  }
+
+  private TopicPartition getTopicPartition(Map<String, Object> messageHeaders) {
+    var topic = messageHeaders.get(KafkaHeaders.RECEIVED_TOPIC);
+    var partition = messageHeaders.get(KafkaHeaders.RECEIVED_PARTITION);
+    if (topic instanceof String topicName && partition instanceof Integer partitionNumber) {
+      return new TopicPartition(topicName, partitionNumber);
+    }
+    return null;
+  }
+
   private String resolveJobKey(JobCommand jobCommand) {
     if (jobCommand.getExportType().equals(BULK_EDIT_QUERY)) {
       return BULK_EDIT_QUERY + "-" + jobCommand.getEntityType();
@@ -173,9 +279,13 @@ public class JobCommandsReceiverService {
       }
     }).filter(StringUtils::isNotBlank).distinct().collect(Collectors.toList());
     if (!objects.isEmpty()) {
-      remoteFilesStorage.removeObjects(objects);
+      var errors = remoteFilesStorage.removeObjects(objects);
+      if (!errors.isEmpty()) {
+        log.warn("{} of {} old job files were not deleted: {}.", errors.size(), objects.size(), errors);
+      }
     }
     jobCommandRepository.delete(jobCommand);
+    jobCommandReceiptRepository.removeAll(jobCommand.getId());
     bulkEditProcessingErrorsService.removeTemporaryErrorStorage();
     return true;
   }
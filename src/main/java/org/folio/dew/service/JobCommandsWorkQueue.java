@@ -0,0 +1,92 @@
+package org.folio.dew.service;
+
+import static java.util.Objects.nonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.common.TopicPartition;
+import org.folio.dew.config.kafka.KafkaService;
+import org.folio.dew.error.JobCommandsQueueFullException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Bounded queue of job commands too slow to be processed on the kafka consumer threads. When the queue
+ * is full the partition of the rejected command is paused until a queued command completes.
+ */
+@Component
+@Log4j2
+public class JobCommandsWorkQueue {
+
+  private final TaskExecutor executor;
+  private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+  private final Set<TopicPartition> pausedPartitions = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  public JobCommandsWorkQueue(@Qualifier("jobCommandsExecutor") TaskExecutor executor,
+                              KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry) {
+    this.executor = executor;
+    this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+  }
+
+  /**
+   * Hands the command over to a worker thread.
+   *
+   * @param partition - partition the command was received from, paused if the queue is full
+   * @throws JobCommandsQueueFullException if the queue is full, the command should be redelivered
+   */
+  public void submit(Runnable command, TopicPartition partition) {
+    inFlight.incrementAndGet();
+    try {
+      executor.execute(() -> {
+        try {
+          command.run();
+        } finally {
+          inFlight.decrementAndGet();
+          resumePausedPartitions();
+        }
+      });
+    } catch (TaskRejectedException e) {
+      inFlight.decrementAndGet();
+      pause(partition);
+      // commands completed while pausing could not resume the partition
+      if (inFlight.get() == 0) {
+        resumePausedPartitions();
+      }
+      throw new JobCommandsQueueFullException("Job commands queue is full, partition " + partition + " paused", e);
+    }
+  }
+
+  private void pause(TopicPartition partition) {
+    if (partition == null) {
+      log.warn("Partition of the rejected job command is unknown, it is redelivered without pausing");
+      return;
+    }
+    var container = kafkaListenerEndpointRegistry.getListenerContainer(KafkaService.EVENT_LISTENER_ID);
+    if (nonNull(container) && pausedPartitions.add(partition)) {
+      log.warn("Pausing partition {} until queued job commands complete", partition);
+      container.pausePartition(partition);
+    }
+  }
+
+  private void resumePausedPartitions() {
+    if (pausedPartitions.isEmpty()) {
+      return;
+    }
+    var container = kafkaListenerEndpointRegistry.getListenerContainer(KafkaService.EVENT_LISTENER_ID);
+    for (TopicPartition partition : List.copyOf(pausedPartitions)) {
+      if (pausedPartitions.remove(partition) && nonNull(container)) {
+        log.info("Resuming partition {}", partition);
+        container.resumePartition(partition);
+      }
+    }
+  }
+}
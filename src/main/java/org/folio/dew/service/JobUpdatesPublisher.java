@@ -0,0 +1,158 @@
+package org.folio.dew.service;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.folio.de.entity.Job;
+import org.folio.dew.config.kafka.KafkaService;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.folio.dew.config.properties.JobUpdatesProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Publishes job updates to the job update topic. Progress updates of a running job are merged per job and
+ * published at most once per configured interval unless the progress grows by the configured step, the
+ * latest merged update is published when the interval elapses. Updates of completed or failed jobs are
+ * published immediately, waiting up to the producer delivery timeout for the broker acknowledgement, and discard
+ * progress still pending. A finished job is remembered for the configured retention, so progress arriving after its
+ * final update is dropped, until the job is started again.
+ */
+@Service
+@Log4j2
+public class JobUpdatesPublisher {
+
+  private static final Duration DEFAULT_DELIVERY_TIMEOUT = Duration.ofMinutes(2);
+
+  private final KafkaService kafka;
+  private final TaskScheduler scheduler;
+  private final JobUpdatesProperties jobUpdatesProperties;
+  private final Duration deliveryTimeout;
+  private final Map<UUID, JobUpdates> jobUpdates = new ConcurrentHashMap<>();
+
+  public JobUpdatesPublisher(KafkaService kafka, @Qualifier("jobUpdatesScheduler") TaskScheduler scheduler,
+                             JobUpdatesProperties jobUpdatesProperties, KafkaProperties kafkaProperties) {
+    this.kafka = kafka;
+    this.scheduler = scheduler;
+    this.jobUpdatesProperties = jobUpdatesProperties;
+    var deliveryTimeoutMs = kafkaProperties.getProducer().getProperties().get(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG);
+    this.deliveryTimeout = isNull(deliveryTimeoutMs) ? DEFAULT_DELIVERY_TIMEOUT : Duration.ofMillis(Long.parseLong(deliveryTimeoutMs));
+  }
+
+  /**
+   * Publishes the first update of a job execution, the state kept for a previous execution of the same job is
+   * replaced, so a relaunched job is not taken for finished.
+   */
+  public void publishStarted(Job job) {
+    var updates = new JobUpdates();
+    synchronized (updates) {
+      jobUpdates.put(job.getId(), updates);
+      send(updates, job, System.currentTimeMillis());
+    }
+  }
+
+  public void publish(Job job) {
+    if (isNull(job.getBatchStatus()) || job.getBatchStatus().isRunning()) {
+      publishProgress(job);
+    } else {
+      publishTerminal(job);
+    }
+  }
+
+  private void publishProgress(Job job) {
+    var updates = jobUpdates.computeIfAbsent(job.getId(), id -> new JobUpdates());
+    synchronized (updates) {
+      if (updates.finished) {
+        log.debug("Job {} is already finished, progress update discarded", job.getId());
+        return;
+      }
+      var now = System.currentTimeMillis();
+      var interval = jobUpdatesProperties.getProgressInterval().toMillis();
+      if (now - updates.lastSentAt >= interval || progressStepReached(updates, job)) {
+        updates.pending = null;
+        send(updates, job, now);
+        return;
+      }
+      updates.pending = job;
+      if (!updates.flushScheduled) {
+        updates.flushScheduled = true;
+        scheduler.schedule(() -> flush(updates), Instant.ofEpochMilli(updates.lastSentAt + interval));
+      }
+    }
+  }
+
+  private void flush(JobUpdates updates) {
+    synchronized (updates) {
+      updates.flushScheduled = false;
+      if (!updates.finished && nonNull(updates.pending)) {
+        var job = updates.pending;
+        updates.pending = null;
+        send(updates, job, System.currentTimeMillis());
+      }
+    }
+  }
+
+  private void publishTerminal(Job job) {
+    var updates = jobUpdates.computeIfAbsent(job.getId(), id -> new JobUpdates());
+    synchronized (updates) {
+      updates.finished = true;
+      updates.pending = null;
+      try {
+        sendAndAwait(job);
+      } finally {
+        scheduler.schedule(() -> jobUpdates.remove(job.getId(), updates),
+          Instant.now().plus(jobUpdatesProperties.getFinishedJobRetention()));
+      }
+    }
+  }
+
+  private void send(JobUpdates updates, Job job, long now) {
+    kafka.send(KafkaService.Topic.JOB_UPDATE, job.getId().toString(), job);
+    updates.lastSentAt = now;
+    if (nonNull(job.getProgress()) && nonNull(job.getProgress().getProgress())) {
+      updates.lastProgress = job.getProgress().getProgress();
+    }
+  }
+
+  private void sendAndAwait(Job job) {
+    // the producer retries the record itself until the delivery timeout, sending it again would duplicate it
+    try {
+      var result = kafka.send(KafkaService.Topic.JOB_UPDATE, job.getId().toString(), job);
+      if (nonNull(result)) {
+        result.get(deliveryTimeout.toMillis(), TimeUnit.MILLISECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.error("Interrupted while sending {} update of job {}", job.getBatchStatus(), job.getId());
+    } catch (ExecutionException | TimeoutException e) {
+      log.error("{} update of job {} was not acknowledged: {}", job.getBatchStatus(), job.getId(), e.getMessage());
+    }
+  }
+
+  private boolean progressStepReached(JobUpdates updates, Job job) {
+    var progress = job.getProgress();
+    return nonNull(progress) && nonNull(progress.getProgress())
+      && progress.getProgress() - updates.lastProgress >= jobUpdatesProperties.getProgressStep();
+  }
+
+  private static class JobUpdates {
+    private Job pending;
+    private long lastSentAt;
+    private int lastProgress;
+    private boolean flushScheduled;
+    private boolean finished;
+  }
+}
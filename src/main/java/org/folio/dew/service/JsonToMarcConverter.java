@@ -4,11 +4,13 @@ import lombok.extern.log4j.Log4j2;
 import org.marc4j.MarcException;
 import org.marc4j.MarcJsonReader;
 import org.marc4j.MarcStreamWriter;
+import org.marc4j.MarcWriter;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 
 @Log4j2
@@ -16,12 +18,9 @@ import java.nio.charset.StandardCharsets;
 public class JsonToMarcConverter {
 
   public String convertJsonRecordToMarcRecord(String jsonRecord) throws IOException {
-    var byteArrayInputStream = new ByteArrayInputStream(jsonRecord.getBytes(StandardCharsets.UTF_8));
     var byteArrayOutputStream = new ByteArrayOutputStream();
-    try (byteArrayInputStream; byteArrayOutputStream) {
-      var marcJsonReader = new MarcJsonReader(byteArrayInputStream);
-      var marcStreamWriter = new MarcStreamWriter(byteArrayOutputStream, StandardCharsets.UTF_8.name());
-      writeMarc(marcJsonReader, marcStreamWriter);
+    try (byteArrayOutputStream) {
+      writeJsonRecordAsMarc(jsonRecord, newMarcWriter(byteArrayOutputStream));
       return byteArrayOutputStream.toString();
     } catch (IOException e) {
       log.error(e.getMessage());
@@ -29,11 +28,32 @@ public class JsonToMarcConverter {
     }
   }
 
-  private void writeMarc(MarcJsonReader marcJsonReader, MarcStreamWriter marcStreamWriter) {
+  /**
+   * Creates MARC writer which can be reused for all records written to the same output stream.
+   *
+   * @param outputStream - the output stream to write MARC records to
+   * @return the MARC writer
+   */
+  public MarcWriter newMarcWriter(OutputStream outputStream) {
+    return new MarcStreamWriter(outputStream, StandardCharsets.UTF_8.name());
+  }
+
+  /**
+   * Converts MARC-in-JSON record and writes it with the given MARC writer.
+   *
+   * @param jsonRecord - MARC record in JSON format
+   * @param marcWriter - the MARC writer
+   */
+  public void writeJsonRecordAsMarc(String jsonRecord, MarcWriter marcWriter) {
+    var marcJsonReader = new MarcJsonReader(new ByteArrayInputStream(jsonRecord.getBytes(StandardCharsets.UTF_8)));
+    writeMarc(marcJsonReader, marcWriter);
+  }
+
+  private void writeMarc(MarcJsonReader marcJsonReader, MarcWriter marcWriter) {
     try {
       while (marcJsonReader.hasNext()) {
         var marc = marcJsonReader.next();
-        marcStreamWriter.write(marc);
+        marcWriter.write(marc);
       }
     } catch (Exception e) {
       log.error(e.getMessage());
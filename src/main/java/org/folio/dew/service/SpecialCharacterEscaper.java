@@ -17,13 +17,35 @@ public class SpecialCharacterEscaper {
 
   private static final String[] specialCharacters = {ITEM_DELIMITER , ARRAY_DELIMITER, KEY_VALUE_DELIMITER};
   private static final String[] escapedValues = {"%7C", "%3B", "%3A"};
+  private static final char ESCAPE_PREFIX = '%';
+  private static final int ESCAPED_VALUE_LENGTH = 3;
+  private static final String[] ESCAPES_BY_CHARACTER = new String[128];
+
+  static {
+    for (int i = 0; i < specialCharacters.length; i++) {
+      ESCAPES_BY_CHARACTER[specialCharacters[i].charAt(0)] = escapedValues[i];
+    }
+  }
 
   public String escape(String initial) {
     if (StringUtils.isEmpty(initial)) return EMPTY;
-    for (int i = 0; i < specialCharacters.length; i++) {
-      initial = initial.replace(specialCharacters[i], escapedValues[i]);
+    int length = initial.length();
+    int first = 0;
+    while (first < length && escapeOf(initial.charAt(first)) == null) {
+      first++;
+    }
+    if (first == length) return initial;
+    var sb = new StringBuilder(length + 8).append(initial, 0, first);
+    for (int i = first; i < length; i++) {
+      char c = initial.charAt(i);
+      var escapedValue = escapeOf(c);
+      if (escapedValue == null) {
+        sb.append(c);
+      } else {
+        sb.append(escapedValue);
+      }
     }
-    return initial;
+    return sb.toString();
   }
 
   public List<String> escape(List<String> initial) {
@@ -37,14 +59,38 @@ public class SpecialCharacterEscaper {
 
   public String restore(String escaped) {
     if (StringUtils.isEmpty(escaped)) return escaped;
-    for (int i = 0; i < escapedValues.length; i++) {
-      escaped = escaped.replace(escapedValues[i], specialCharacters[i]);
+    int next = escaped.indexOf(ESCAPE_PREFIX);
+    if (next < 0) return escaped;
+    var sb = new StringBuilder(escaped.length());
+    int from = 0;
+    while (next >= 0) {
+      int index = indexOfEscapedValue(escaped, next);
+      if (index < 0) {
+        next = escaped.indexOf(ESCAPE_PREFIX, next + 1);
+        continue;
+      }
+      sb.append(escaped, from, next).append(specialCharacters[index]);
+      from = next + ESCAPED_VALUE_LENGTH;
+      next = escaped.indexOf(ESCAPE_PREFIX, from);
     }
-    return escaped;
+    if (from == 0) return escaped;
+    return sb.append(escaped, from, escaped.length()).toString();
   }
 
   public List<String> restore(List<String> escaped) {
     if (escaped == null) return Collections.emptyList();
     return escaped.stream().map(this::restore).toList();
   }
+
+  private static String escapeOf(char c) {
+    return c < ESCAPES_BY_CHARACTER.length ? ESCAPES_BY_CHARACTER[c] : null;
+  }
+
+  private static int indexOfEscapedValue(String s, int start) {
+    if (start + ESCAPED_VALUE_LENGTH > s.length()) return -1;
+    for (int i = 0; i < escapedValues.length; i++) {
+      if (s.startsWith(escapedValues[i], start)) return i;
+    }
+    return -1;
+  }
 }
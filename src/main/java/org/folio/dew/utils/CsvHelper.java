@@ -1,7 +1,5 @@
 package org.folio.dew.utils;
 
-import static org.folio.dew.utils.Constants.LINE_BREAK;
-
 import com.opencsv.bean.CsvToBeanBuilder;
 import com.opencsv.bean.StatefulBeanToCsvBuilder;
 import com.opencsv.exceptions.CsvDataTypeMismatchException;
@@ -15,15 +13,12 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 
 import java.io.StringReader;
-import java.io.StringWriter;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @UtilityClass
 @Log4j2
 public class CsvHelper {
-  private static final int BATCH_SIZE = 1000;
-
   public static <T, R extends BaseFilesStorage> List<T> readRecordsFromStorage(R storage, String fileName, Class<T> clazz, boolean skipHeaders) throws IOException {
     try (var reader = new BufferedReader(new InputStreamReader(storage.newInputStream(fileName)))) {
       return new CsvToBeanBuilder<T>(reader)
@@ -54,37 +49,17 @@ public class CsvHelper {
       storage.delete(fileName);
     }
 
-    if (beans.size() > BATCH_SIZE) {
-      for (int batchNumber = 0; batchNumber <= beans.size() / BATCH_SIZE; batchNumber++) {
-        log.info("Writing batch #{}", batchNumber);
-        var batch = beans.stream()
-          .skip((long) batchNumber * BATCH_SIZE)
-          .limit(BATCH_SIZE)
-          .collect(Collectors.toList());
-        try (var stringWriter = new StringWriter()) {
-          new StatefulBeanToCsvBuilder<T>(stringWriter)
-            .withApplyQuotesToAll(false)
-            .withMappingStrategy(strategy)
-            .build()
-            .write(batch);
-          var csvString = stringWriter.toString();
-          storage.append(fileName, batchNumber == 0 ? csvString.getBytes() : csvString.substring(csvString.indexOf(LINE_BREAK) + 1).getBytes());
-        }
-      }
-    } else {
-      try (var writer = storage.writer(fileName)) {
-        new StatefulBeanToCsvBuilder<T>(writer)
-          .withApplyQuotesToAll(false)
-          .withMappingStrategy(strategy)
-          .build()
-          .write(beans);
-      }
+    // one writer for all the records: the content is streamed once and stored with a single write
+    try (var writer = storage.writer(fileName)) {
+      new StatefulBeanToCsvBuilder<T>(writer)
+        .withApplyQuotesToAll(false)
+        .withMappingStrategy(strategy)
+        .build()
+        .write(beans);
     }
   }
 
   public static <R extends BaseFilesStorage> long countLines(R storage, String path) throws IOException {
-    try (var lines = storage.lines(path)) {
-      return lines.count();
-    }
+    return storage.countLines(path);
   }
 }
@@ -0,0 +1,194 @@
+package org.folio.dew.utils;
+
+import static java.lang.String.format;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import org.folio.dew.domain.dto.annotation.ExportFormat;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Extracts property values of beans of one class and encodes them as CSV row.
+ * Property getters are resolved into method handles once per class, so no bean introspection happens per row.
+ */
+public final class CsvRowEncoder {
+
+  private static final String NOT_EXPORT_FORMAT = "Class %s not annotated as export format";
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private static final ClassValue<CsvRowEncoder> EXPORT_FORMAT_ENCODERS = new ClassValue<>() {
+    @Override
+    protected CsvRowEncoder computeValue(Class<?> clazz) {
+      if (!clazz.isAnnotationPresent(ExportFormat.class)) {
+        throw new IllegalArgumentException(format(NOT_EXPORT_FORMAT, clazz.getName()));
+      }
+      return new CsvRowEncoder(clazz, Arrays.stream(clazz.getDeclaredFields()).map(Field::getName).toArray(String[]::new));
+    }
+  };
+
+  private final Class<?> beanClass;
+  private final String[] names;
+  private final MethodHandle[] getters;
+  private final boolean[] stringValues;
+
+  private CsvRowEncoder(Class<?> beanClass, String[] names) {
+    this.beanClass = beanClass;
+    this.names = names.clone();
+    this.getters = new MethodHandle[names.length];
+    this.stringValues = new boolean[names.length];
+    for (var i = 0; i < names.length; i++) {
+      var descriptor = names[i].contains(".") ? null : BeanUtils.getPropertyDescriptor(beanClass, names[i]);
+      var readMethod = descriptor == null ? null : descriptor.getReadMethod();
+      if (readMethod == null) {
+        // nested or non-readable property: resolved by bean wrapper per value as before
+        stringValues[i] = true;
+        continue;
+      }
+      ReflectionUtils.makeAccessible(readMethod);
+      try {
+        getters[i] = MethodHandles.lookup().unreflect(readMethod).asType(GETTER_TYPE);
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException(format("Cannot access property %s of %s", names[i], beanClass.getName()), e);
+      }
+      stringValues[i] = readMethod.getReturnType().isAssignableFrom(String.class);
+    }
+  }
+
+  /**
+   * Returns encoder for the given bean class and property names.
+   *
+   * @param beanClass - class of beans to encode
+   * @param names - names of the properties in column order
+   * @return the encoder
+   */
+  public static CsvRowEncoder forProperties(Class<?> beanClass, String[] names) {
+    return new CsvRowEncoder(beanClass, names);
+  }
+
+  /**
+   * Returns cached encoder for class annotated with {@link ExportFormat}, columns are declared fields of the class.
+   *
+   * @param exportFormatClass - export format class
+   * @return the encoder
+   */
+  public static CsvRowEncoder forExportFormat(Class<?> exportFormatClass) {
+    return EXPORT_FORMAT_ENCODERS.get(exportFormatClass);
+  }
+
+  public boolean supports(Class<?> clazz) {
+    return beanClass == clazz;
+  }
+
+  /**
+   * Extracts raw property values of the bean.
+   *
+   * @param item - the bean
+   * @return values in column order
+   */
+  public Object[] extract(Object item) {
+    var values = new Object[getters.length];
+    for (var i = 0; i < getters.length; i++) {
+      values[i] = getValue(item, i);
+    }
+    return values;
+  }
+
+  /**
+   * Appends export format row: string values are quoted when needed, other values are written as empty columns.
+   *
+   * @param sb - target builder
+   * @param item - the bean
+   */
+  public void appendExportRow(StringBuilder sb, Object item) {
+    for (var i = 0; i < getters.length; i++) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      if (stringValues[i] && getValue(item, i) instanceof String s) {
+        appendExportValue(sb, s);
+      }
+    }
+  }
+
+  /**
+   * Appends value quoted the export format way: value containing comma or line break is wrapped into quotes,
+   * quotes inside are doubled and line breaks are escaped.
+   *
+   * @param sb - target builder
+   * @param value - value to append
+   */
+  public static void appendExportValue(StringBuilder sb, String value) {
+    if (value.indexOf(',') < 0 && value.indexOf('\n') < 0) {
+      sb.append(value);
+      return;
+    }
+    sb.append('"');
+    for (var i = 0; i < value.length(); i++) {
+      var c = value.charAt(i);
+      if (c == '"') {
+        sb.append('"').append('"');
+      } else if (c == '\n') {
+        sb.append('\\').append('n');
+      } else {
+        sb.append(c);
+      }
+    }
+    sb.append('"');
+  }
+
+  /**
+   * Returns value escaped the CSV extractor way: quotes are doubled, value containing comma or line break is wrapped into quotes.
+   *
+   * @param value - value to escape
+   * @return escaped value, the same instance if nothing to escape
+   */
+  public static String escapeCsvValue(String value) {
+    var hasQuote = false;
+    var needsWrapping = false;
+    for (var i = 0; i < value.length(); i++) {
+      var c = value.charAt(i);
+      if (c == '"') {
+        hasQuote = true;
+      } else if (c == ',' || c == '\n') {
+        needsWrapping = true;
+      }
+    }
+    if (!hasQuote && !needsWrapping) {
+      return value;
+    }
+    var sb = new StringBuilder(value.length() + 8);
+    if (needsWrapping) {
+      sb.append('"');
+    }
+    for (var i = 0; i < value.length(); i++) {
+      var c = value.charAt(i);
+      if (c == '"') {
+        sb.append('"');
+      }
+      sb.append(c);
+    }
+    if (needsWrapping) {
+      sb.append('"');
+    }
+    return sb.toString();
+  }
+
+  private Object getValue(Object item, int i) {
+    var getter = getters[i];
+    if (getter == null) {
+      return new BeanWrapperImpl(item).getPropertyValue(names[i]);
+    }
+    try {
+      return (Object) getter.invokeExact(item);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(format("Cannot read property %s of %s", names[i], beanClass.getName()), e);
+    }
+  }
+}
@@ -3,25 +3,17 @@ package org.folio.dew.utils;
 import lombok.experimental.UtilityClass;
 import org.folio.dew.domain.dto.annotation.ExportFormat;
 import org.folio.dew.domain.dto.annotation.ExportHeader;
-import org.springframework.beans.BeanWrapperImpl;
 
 import java.lang.reflect.Field;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
-import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.SPACE;
 import static org.apache.commons.lang3.StringUtils.capitalize;
 import static org.apache.commons.lang3.StringUtils.join;
 import static org.apache.commons.lang3.StringUtils.splitByCharacterTypeCamelCase;
-import static org.folio.dew.utils.Constants.COMMA;
-import static org.folio.dew.utils.Constants.LINE_BREAK;
-import static org.folio.dew.utils.Constants.LINE_BREAK_REPLACEMENT;
-import static org.folio.dew.utils.Constants.QUOTE;
-import static org.folio.dew.utils.Constants.QUOTE_REPLACEMENT;
 
 @UtilityClass
 public class ExportFormatHelper {
@@ -37,22 +29,19 @@ public class ExportFormatHelper {
   }
 
   public static String getItemRow(Object item) {
-    var objectClass = item.getClass();
-    verifyAnnotationPresence(objectClass);
-
-    var clazzFields = getClassFields(objectClass);
-    var itemValues = new ArrayList<String>();
-    var bw = new BeanWrapperImpl(item);
-    for (var fieldName : clazzFields) {
-      var value = bw.getPropertyValue(fieldName);
-      if (value instanceof String) {
-        var s = getStringValue((String) value);
-        itemValues.add(s);
-      } else {
-        itemValues.add(EMPTY);
-      }
-    }
-    return String.join(",", itemValues);
+    var sb = new StringBuilder();
+    appendItemRow(sb, item);
+    return sb.toString();
+  }
+
+  /**
+   * Appends CSV row of the export format item using encoder cached per class.
+   *
+   * @param sb - target builder
+   * @param item - export format item
+   */
+  public static void appendItemRow(StringBuilder sb, Object item) {
+    CsvRowEncoder.forExportFormat(item.getClass()).appendExportRow(sb, item);
   }
 
   private static List<String> getExportFormatHeaders(Class<?> clazz) {
@@ -94,21 +83,4 @@ public class ExportFormatHelper {
 
     return new String(c);
   }
-
-  private static String quoteValue(String s) {
-    if (s.contains(COMMA) || s.contains(LINE_BREAK)) {
-      s = QUOTE + s.replace(QUOTE, QUOTE_REPLACEMENT).replace(LINE_BREAK, LINE_BREAK_REPLACEMENT) + QUOTE;
-    }
-    return s;
-  }
-
-  private static String getStringValue(String value) {
-    return quoteValue(value);
-  }
-
-  private static List<String> getClassFields(Class<?> clazz) {
-    return Arrays.stream(clazz.getDeclaredFields())
-      .map(Field::getName)
-      .collect(Collectors.toUnmodifiableList());
-  }
 }
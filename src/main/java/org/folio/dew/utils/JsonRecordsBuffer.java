@@ -0,0 +1,46 @@
+package org.folio.dew.utils;
+
+import static org.folio.dew.utils.Constants.NEW_LINE;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.folio.dew.domain.dto.Formatable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Accumulates JSON records of an output file through a single reusable generator.
+ * The buffer is drained after every chunk, callers sharing it between threads must synchronize on it.
+ */
+public class JsonRecordsBuffer {
+
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+  private final JsonGenerator generator = WriterHelper.createGenerator(buffer);
+
+  public void write(Object value) throws IOException {
+    WriterHelper.writeJson(generator, value);
+  }
+
+  public void writeEnriched(Formatable<?> item) throws IOException {
+    WriterHelper.writeEnrichedJson(generator, item);
+  }
+
+  public void newLine() throws IOException {
+    generator.writeRaw(NEW_LINE);
+  }
+
+  public byte[] drainBytes() throws IOException {
+    generator.flush();
+    var bytes = buffer.toByteArray();
+    buffer.reset();
+    return bytes;
+  }
+
+  public String drainString() throws IOException {
+    generator.flush();
+    var result = buffer.toString(StandardCharsets.UTF_8);
+    buffer.reset();
+    return result;
+  }
+}
@@ -1,51 +1,129 @@
 package org.folio.dew.utils;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonAppend;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import org.folio.dew.domain.dto.ExtendedHoldingsRecord;
 import org.folio.dew.domain.dto.ExtendedInstance;
 import org.folio.dew.domain.dto.ExtendedItem;
+import org.folio.dew.domain.dto.Formatable;
 import org.folio.dew.domain.dto.HoldingsFormat;
+import org.folio.dew.domain.dto.HoldingsRecord;
+import org.folio.dew.domain.dto.Instance;
 import org.folio.dew.domain.dto.InstanceFormat;
+import org.folio.dew.domain.dto.Item;
 import org.folio.dew.domain.dto.ItemFormat;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Serializes bulk edit records to JSON. Enriched entities are written straight from the POJOs: the extra fields
+ * taken from the export format are appended by mix-ins, so no intermediate JSON trees or strings are built.
+ */
 @UtilityClass
 public class WriterHelper {
 
   public static final String ENTITY = "entity";
+  private static final String HOLDINGS_DATA = "holdingsData";
+  private static final String TITLE = "title";
+  private static final String INSTANCE_HRID = "instanceHrid";
+  private static final String ITEM_BARCODE = "itemBarcode";
+  private static final String INSTANCE_TITLE = "instanceTitle";
+  private static final String ISSN = "ISSN";
+  private static final String ISBN = "ISBN";
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer();
+  private static final ObjectWriter ENRICHED_OBJECT_WRITER = new ObjectMapper()
+    .addMixIn(Item.class, EnrichedItemMixIn.class)
+    .addMixIn(HoldingsRecord.class, EnrichedHoldingsRecordMixIn.class)
+    .addMixIn(Instance.class, EnrichedInstanceMixIn.class)
+    .writer();
 
+  /**
+   * Creates generator writing root level values one after another without any separator.
+   *
+   * @param out - target stream
+   * @return the generator
+   */
   @SneakyThrows
-  public static String enrichItemsJson(ItemFormat item, ObjectMapper objectMapper) {
+  public static JsonGenerator createGenerator(OutputStream out) {
+    var generator = OBJECT_MAPPER.getFactory().createGenerator(out);
+    generator.setRootValueSeparator(null);
+    return generator;
+  }
 
-    var extendedItemObject = new ExtendedItem().entity(item.getOriginal()).tenantId(item.getTenantId());
-    var extendedItemJson = (ObjectNode) objectMapper.valueToTree(extendedItemObject);
-    var itemFormatJson = objectMapper.valueToTree(item);
-    ((ObjectNode) extendedItemJson.get(ENTITY)).putIfAbsent("holdingsData", itemFormatJson.get("holdingsData"));
-    ((ObjectNode) extendedItemJson.get(ENTITY)).set("title", itemFormatJson.get("title"));
-    return objectMapper.writeValueAsString(extendedItemJson);
+  public static void writeJson(JsonGenerator generator, Object value) throws IOException {
+    OBJECT_WRITER.writeValue(generator, value);
   }
 
-  @SneakyThrows
-  public static String enrichHoldingsJson(HoldingsFormat item, ObjectMapper objectMapper) {
-    var extendedHoldingsRecordObject = new ExtendedHoldingsRecord().entity(item.getOriginal()).tenantId(item.getTenantId());
-    var extendedHoldingsRecordJson = (ObjectNode) objectMapper.valueToTree(extendedHoldingsRecordObject);
-    var holdingsFormatJson = objectMapper.valueToTree(item);
-    ((ObjectNode) extendedHoldingsRecordJson.get(ENTITY)).putIfAbsent("instanceHrid", holdingsFormatJson.get("instanceHrid"));
-    ((ObjectNode) extendedHoldingsRecordJson.get(ENTITY)).putIfAbsent("itemBarcode", holdingsFormatJson.get("itemBarcode"));
-    ((ObjectNode) extendedHoldingsRecordJson.get(ENTITY)).putIfAbsent("instanceTitle", holdingsFormatJson.get("instanceTitle"));
-    return objectMapper.writeValueAsString(extendedHoldingsRecordJson);
+  /**
+   * Writes items, holdings and instances wrapped into their extended representation enriched with export format fields,
+   * other records are written as is.
+   *
+   * @param generator - target generator
+   * @param item - record to write
+   */
+  public static void writeEnrichedJson(JsonGenerator generator, Formatable<?> item) throws IOException {
+    if (item instanceof HoldingsFormat holdingsFormat) {
+      writeHoldingsJson(generator, holdingsFormat);
+    } else if (item instanceof InstanceFormat instanceFormat) {
+      writeInstanceJson(generator, instanceFormat);
+    } else if (item instanceof ItemFormat itemFormat) {
+      writeItemJson(generator, itemFormat);
+    } else {
+      writeJson(generator, item.getOriginal());
+    }
+  }
+
+  public static void writeItemJson(JsonGenerator generator, ItemFormat item) throws IOException {
+    ENRICHED_OBJECT_WRITER
+      .withAttribute(HOLDINGS_DATA, item.getHoldingsData())
+      .withAttribute(TITLE, item.getTitle())
+      .writeValue(generator, new ExtendedItem().entity(item.getOriginal()).tenantId(item.getTenantId()));
   }
-  @SneakyThrows
-  public static String enrichInstancesJson(InstanceFormat item, ObjectMapper objectMapper) {
-    var extendedInstanceObject = new ExtendedInstance().entity(item.getOriginal()).tenantId(item.getTenantId());
-    var extendedInstanceJson = (ObjectNode) objectMapper.valueToTree(extendedInstanceObject);
 
-    var instancesFormatJson = objectMapper.valueToTree(item);
-    ((ObjectNode) extendedInstanceJson.get(ENTITY)).putIfAbsent("ISSN", instancesFormatJson.get("issn"));
-    ((ObjectNode) extendedInstanceJson.get(ENTITY)).putIfAbsent("ISBN", instancesFormatJson.get("isbn"));
+  public static void writeHoldingsJson(JsonGenerator generator, HoldingsFormat item) throws IOException {
+    ENRICHED_OBJECT_WRITER
+      .withAttribute(INSTANCE_HRID, item.getInstanceHrid())
+      .withAttribute(ITEM_BARCODE, item.getItemBarcode())
+      .withAttribute(INSTANCE_TITLE, item.getInstanceTitle())
+      .writeValue(generator, new ExtendedHoldingsRecord().entity(item.getOriginal()).tenantId(item.getTenantId()));
+  }
+
+  public static void writeInstanceJson(JsonGenerator generator, InstanceFormat item) throws IOException {
+    ENRICHED_OBJECT_WRITER
+      .withAttribute(ISSN, item.getIssn())
+      .withAttribute(ISBN, item.getIsbn())
+      .writeValue(generator, new ExtendedInstance().entity(item.getOriginal()).tenantId(item.getTenantId()));
+  }
+
+  @JsonIgnoreProperties(TITLE)
+  @JsonAppend(attrs = {
+    @JsonAppend.Attr(value = HOLDINGS_DATA, include = JsonInclude.Include.ALWAYS),
+    @JsonAppend.Attr(value = TITLE, include = JsonInclude.Include.ALWAYS)
+  })
+  private abstract static class EnrichedItemMixIn {
+  }
+
+  @JsonAppend(attrs = {
+    @JsonAppend.Attr(value = INSTANCE_HRID, include = JsonInclude.Include.ALWAYS),
+    @JsonAppend.Attr(value = ITEM_BARCODE, include = JsonInclude.Include.ALWAYS),
+    @JsonAppend.Attr(value = INSTANCE_TITLE, include = JsonInclude.Include.ALWAYS)
+  })
+  private abstract static class EnrichedHoldingsRecordMixIn {
+  }
 
-    return objectMapper.writeValueAsString(extendedInstanceJson);
+  @JsonAppend(attrs = {
+    @JsonAppend.Attr(value = ISSN, include = JsonInclude.Include.ALWAYS),
+    @JsonAppend.Attr(value = ISBN, include = JsonInclude.Include.ALWAYS)
+  })
+  private abstract static class EnrichedInstanceMixIn {
   }
 }
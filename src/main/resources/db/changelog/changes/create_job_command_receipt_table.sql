@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS job_command_receipt (
+	job_id UUID NOT NULL,
+	job_command_type VARCHAR(256) NOT NULL,
+	received_date TIMESTAMP NOT NULL DEFAULT NOW(),
+	status VARCHAR(32) NOT NULL DEFAULT 'IN_PROGRESS',
+	CONSTRAINT job_command_receipt_pkey PRIMARY KEY (job_id, job_command_type)
+);
@@ -25,6 +25,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.SneakyThrows;
 import org.folio.dew.batch.ExportJobManager;
+import org.folio.dew.batch.ExportJobManagerAcquisitions;
 import org.folio.dew.batch.ExportJobManagerSync;
 import org.folio.dew.client.ConsortiaClient;
 import org.folio.dew.client.SearchClient;
@@ -110,6 +111,8 @@ public abstract class BaseBatchTest {
   @MockBean
   @Qualifier("exportJobManagerSync")
   protected ExportJobManagerSync exportJobManagerSync;
+  @MockBean
+  protected ExportJobManagerAcquisitions exportJobManagerAcquisitions;
   @Value("${spring.application.name}")
   protected String springApplicationName;
   @MockBean
@@ -0,0 +1,96 @@
+package org.folio.dew.batch.acquisitions.edifact;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.dew.batch.acquisitions.edifact.exceptions.EdifactException;
+import org.folio.dew.batch.acquisitions.edifact.services.FTPStorageService;
+import org.folio.dew.config.properties.AcquisitionsJobProperties;
+import org.folio.dew.domain.dto.EdiFtp;
+import org.folio.dew.domain.dto.VendorEdiOrdersExportConfig;
+import org.folio.dew.repository.FTPObjectStorageRepository;
+import org.folio.dew.repository.ResumableInputSource;
+import org.folio.dew.repository.SFTPObjectStorageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FTPStorageServiceTest {
+
+  @Mock
+  private SFTPObjectStorageRepository sftpObjectStorageRepository;
+  @Mock
+  private FTPObjectStorageRepository ftpObjectStorageRepository;
+
+  private FTPStorageService ftpStorageService;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new AcquisitionsJobProperties();
+    properties.setFtpUploadsPerHost(1);
+    properties.setFtpUploadWaitTimeout(Duration.ofMillis(100));
+    ftpStorageService = new FTPStorageService(sftpObjectStorageRepository, ftpObjectStorageRepository, properties);
+  }
+
+  @Test
+  void shouldLimitConcurrentUploadsPerHost() throws Exception {
+    var uploadStarted = new CountDownLatch(1);
+    var releaseUpload = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      if (!"first.edi".equals(invocation.getArgument(5))) {
+        return true;
+      }
+      uploadStarted.countDown();
+      return releaseUpload.await(5, TimeUnit.SECONDS);
+    }).when(sftpObjectStorageRepository).upload(anyString(), anyString(), anyString(), anyInt(), anyString(), anyString(), any(ResumableInputSource.class), anyBoolean());
+
+    var firstUpload = CompletableFuture.runAsync(() -> {
+      try {
+        ftpStorageService.uploadToFtp(getExportConfig("sftp://host-a"), new byte[0], "first.edi");
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    assertTrue(uploadStarted.await(5, TimeUnit.SECONDS));
+
+    var sameHostConfig = getExportConfig("sftp://host-a");
+    assertThrows(EdifactException.class, () -> ftpStorageService.uploadToFtp(sameHostConfig, new byte[0], "second.edi"));
+    ftpStorageService.uploadToFtp(getExportConfig("sftp://host-b"), new byte[0], "other.edi");
+
+    releaseUpload.countDown();
+    firstUpload.get(5, TimeUnit.SECONDS);
+    ftpStorageService.uploadToFtp(sameHostConfig, new byte[0], "third.edi");
+
+    verify(sftpObjectStorageRepository, times(2)).upload(anyString(), anyString(), eq("host-a"), anyInt(), anyString(), anyString(), any(ResumableInputSource.class), anyBoolean());
+    verify(sftpObjectStorageRepository).upload(anyString(), anyString(), eq("host-b"), anyInt(), anyString(), anyString(), any(ResumableInputSource.class), anyBoolean());
+  }
+
+  private VendorEdiOrdersExportConfig getExportConfig(String serverAddress) {
+    var ediFtp = new EdiFtp();
+    ediFtp.setServerAddress(serverAddress);
+    ediFtp.setFtpPort(22);
+    ediFtp.setUsername("user");
+    ediFtp.setPassword("password");
+    ediFtp.setOrderDirectory("orders");
+    ediFtp.setFtpFormat(EdiFtp.FtpFormatEnum.SFTP);
+    var config = new VendorEdiOrdersExportConfig();
+    config.setEdiFtp(ediFtp);
+    return config;
+  }
+}
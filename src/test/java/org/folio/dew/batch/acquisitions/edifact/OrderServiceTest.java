@@ -2,6 +2,7 @@ package org.folio.dew.batch.acquisitions.edifact;
 
 import org.folio.dew.batch.acquisitions.edifact.services.OrdersService;
 import org.folio.dew.client.OrdersStorageClient;
+import org.folio.dew.config.properties.AcquisitionsJobProperties;
 import org.folio.dew.domain.dto.PoLine;
 import org.folio.dew.domain.dto.PoLineCollection;
 import org.folio.dew.domain.dto.PurchaseOrder;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
@@ -25,14 +27,17 @@ class OrderServiceTest {
   private OrdersService orderService;
   @Mock
   OrdersStorageClient ordersStorageClient;
+  @Spy
+  AcquisitionsJobProperties acquisitionsJobProperties = new AcquisitionsJobProperties();
 
   @Test
-  void getPoLinesByQueryTest() {
+  void getPoLinesPageTest() {
     PoLine poLine = new PoLine()
-      .id("one");
+      .id("one")
+      .purchaseOrderId("order");
     String query = "test";
-    String modifiedQuery1 = "test AND cql.allRecords=1 sortBy id";
-    String modifiedQuery2 = "test AND id > one sortBy id";
+    String firstPageQuery = "test AND cql.allRecords=1 sortBy purchaseOrderId id";
+    String nextPageQuery = "test AND (purchaseOrderId > order OR (purchaseOrderId == order AND id > one)) sortBy purchaseOrderId id";
     PoLineCollection poLineCollection1 = new PoLineCollection()
       .poLines(List.of(poLine))
       .totalRecords(1);
@@ -40,15 +45,14 @@ class OrderServiceTest {
       .poLines(List.of())
       .totalRecords(0);
     doReturn(poLineCollection1)
-      .when(ordersStorageClient).getPoLinesByQuery(modifiedQuery1, 0, 50);
+      .when(ordersStorageClient).getPoLinesByQuery(firstPageQuery, 0, 50);
     doReturn(poLineCollection2)
-      .when(ordersStorageClient).getPoLinesByQuery(modifiedQuery2, 0, 50);
+      .when(ordersStorageClient).getPoLinesByQuery(nextPageQuery, 0, 50);
 
-    List<PoLine> lines = orderService.getPoLinesByQuery(query);
-
-    assertEquals(lines, List.of(poLine));
-    verify(ordersStorageClient).getPoLinesByQuery(modifiedQuery1, 0, 50);
-    verify(ordersStorageClient).getPoLinesByQuery(modifiedQuery2, 0, 50);
+    assertEquals(List.of(poLine), orderService.getPoLinesPage(query, null));
+    assertEquals(List.of(), orderService.getPoLinesPage(query, poLine));
+    verify(ordersStorageClient).getPoLinesByQuery(firstPageQuery, 0, 50);
+    verify(ordersStorageClient).getPoLinesByQuery(nextPageQuery, 0, 50);
   }
 
   @Test
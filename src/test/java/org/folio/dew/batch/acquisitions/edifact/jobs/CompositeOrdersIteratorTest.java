@@ -0,0 +1,93 @@
+package org.folio.dew.batch.acquisitions.edifact.jobs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.folio.dew.batch.acquisitions.edifact.services.OrdersService;
+import org.folio.dew.domain.dto.CompositePurchaseOrder;
+import org.folio.dew.domain.dto.PoLine;
+import org.folio.dew.domain.dto.PurchaseOrder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CompositeOrdersIteratorTest {
+
+  private static final String QUERY = "test";
+
+  @Mock
+  private OrdersService ordersService;
+
+  @Test
+  void shouldMergeLinesOfOrderContinuedOnNextPage() {
+    var line1 = new PoLine().id("1").purchaseOrderId("a");
+    var line2 = new PoLine().id("2").purchaseOrderId("b");
+    var line3 = new PoLine().id("3").purchaseOrderId("b");
+    var line4 = new PoLine().id("4").purchaseOrderId("c");
+    doReturn(List.of(line1, line2)).when(ordersService).getPoLinesPage(QUERY, null);
+    doReturn(List.of(line3, line4)).when(ordersService).getPoLinesPage(QUERY, line2);
+    doReturn(List.of()).when(ordersService).getPoLinesPage(QUERY, line4);
+    doReturn(List.of(new PurchaseOrder().id("a"), new PurchaseOrder().id("b")))
+      .when(ordersService).getPurchaseOrdersByIds(List.of("a", "b"));
+    doReturn(List.of(new PurchaseOrder().id("c"))).when(ordersService).getPurchaseOrdersByIds(List.of("c"));
+
+    var assembledLines = new ArrayList<Map.Entry<String, List<String>>>();
+    try (var iterator = new CompositeOrdersIterator(ordersService, QUERY, Runnable::run, (order, poLines) -> {
+      assembledLines.add(Map.entry(order.getId(), poLines.stream().map(PoLine::getId).toList()));
+      return new CompositePurchaseOrder();
+    })) {
+      var count = 0;
+      while (iterator.hasNext()) {
+        iterator.next();
+        count++;
+      }
+      assertEquals(3, count);
+    }
+
+    assertEquals(List.of(
+      Map.entry("a", List.of("1")),
+      Map.entry("b", List.of("2", "3")),
+      Map.entry("c", List.of("4"))), assembledLines);
+    verify(ordersService).getPurchaseOrdersByIds(List.of("a", "b"));
+    verify(ordersService).getPurchaseOrdersByIds(List.of("c"));
+  }
+
+  @Test
+  void shouldSkipLinesOfMissingOrder() {
+    var line1 = new PoLine().id("1").purchaseOrderId("a");
+    var line2 = new PoLine().id("2").purchaseOrderId("b");
+    doReturn(List.of(line1, line2)).when(ordersService).getPoLinesPage(QUERY, null);
+    doReturn(List.of()).when(ordersService).getPoLinesPage(QUERY, line2);
+    doReturn(List.of(new PurchaseOrder().id("b"))).when(ordersService).getPurchaseOrdersByIds(List.of("a", "b"));
+
+    try (var iterator = new CompositeOrdersIterator(ordersService, QUERY, Runnable::run,
+      (order, poLines) -> new CompositePurchaseOrder().poNumber(order.getId() + poLines.stream()
+        .map(PoLine::getId).collect(Collectors.joining())))) {
+      assertEquals("b2", iterator.next().getPoNumber());
+      assertFalse(iterator.hasNext());
+    }
+  }
+
+  @Test
+  void shouldNotLookUpOrdersWhenNoLinesFound() {
+    doReturn(List.of()).when(ordersService).getPoLinesPage(QUERY, null);
+
+    try (var iterator = new CompositeOrdersIterator(ordersService, QUERY, Runnable::run,
+      (order, poLines) -> new CompositePurchaseOrder())) {
+      assertFalse(iterator.hasNext());
+    }
+
+    verify(ordersService).getPoLinesPage(QUERY, null);
+    verifyNoMoreInteractions(ordersService);
+  }
+}
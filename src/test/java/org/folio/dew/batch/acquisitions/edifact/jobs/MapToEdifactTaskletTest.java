@@ -8,10 +8,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -27,6 +30,7 @@ import org.folio.dew.domain.dto.PoLine;
 import org.folio.dew.domain.dto.PoLineCollection;
 import org.folio.dew.domain.dto.PurchaseOrder;
 import org.folio.dew.domain.dto.PurchaseOrderCollection;
+import org.folio.dew.repository.LocalFilesStorage;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
@@ -52,6 +56,8 @@ class MapToEdifactTaskletTest extends BaseBatchTest {
   protected ObjectMapper objectMapper;
   @Autowired
   Job edifactExportJob;
+  @Autowired
+  private LocalFilesStorage localFilesStorage;
 
   @Test
   void edifactExportJobTestSuccess() throws Exception {
@@ -67,15 +73,17 @@ class MapToEdifactTaskletTest extends BaseBatchTest {
       " AND (cql.allRecords=1 NOT lastEDIExportDate=\"\")" +
       " AND acquisitionMethod==(\"306489dd-0053-49ee-a068-c316444a8f55\")" +
       " AND vendorDetail.vendorAccount==(\"BRXXXXX-01\")";
-    doReturn(poLines).when(ordersService).getPoLinesByQuery(cqlString);
+    doReturn(poLines).when(ordersService).getPoLinesPage(cqlString, null);
     doReturn(orders).when(ordersService).getPurchaseOrdersByIds(anyList());
-    doReturn("test1").when(purchaseOrdersToEdifactMapper).convertOrdersToEdifact(any(), any(), anyString());
+    doNothing().when(purchaseOrdersToEdifactMapper).convertOrdersToEdifact(any(), any(), anyString(), any(OutputStream.class));
 
     JobExecution jobExecution = testLauncher.launchStep("mapToEdifactStep", getJobParameters(false));
 
     Assertions.assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
-    verify(ordersService).getPoLinesByQuery(cqlString);
+    verify(ordersService).getPoLinesPage(cqlString, null);
     verify(ordersService).getPurchaseOrdersByIds(anyList());
+    var edifactFilePath = jobExecution.getExecutionContext().getString(MapToEdifactTasklet.EDIFACT_FILE_PATH);
+    assertTrue(localFilesStorage.exists(edifactFilePath));
   }
 
   @Test
@@ -117,15 +125,15 @@ class MapToEdifactTaskletTest extends BaseBatchTest {
     ExportConfigCollection exportConfigCollection = new ExportConfigCollection();
     exportConfigCollection.setTotalRecords(1);
     poLines.get(0).getVendorDetail().setVendorAccount(null);
-    doReturn(poLines).when(ordersService).getPoLinesByQuery(cqlString);
+    doReturn(poLines).when(ordersService).getPoLinesPage(cqlString, null);
     doReturn(exportConfigCollection).when(dataExportSpringClient).getExportConfigs(configSql);
     doReturn(orders).when(ordersService).getPurchaseOrdersByIds(anyList());
-    doReturn("test1").when(purchaseOrdersToEdifactMapper).convertOrdersToEdifact(any(), any(), anyString());
+    doNothing().when(purchaseOrdersToEdifactMapper).convertOrdersToEdifact(any(), any(), anyString(), any(OutputStream.class));
 
     JobExecution jobExecution = testLauncher.launchStep("mapToEdifactStep", getJobParameters(true));
 
     Assertions.assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
-    verify(ordersService).getPoLinesByQuery(cqlString);
+    verify(ordersService).getPoLinesPage(cqlString, null);
     verify(ordersService).getPurchaseOrdersByIds(anyList());
   }
 
@@ -146,15 +154,15 @@ class MapToEdifactTaskletTest extends BaseBatchTest {
     String configSql = "configName==EDIFACT_ORDERS_EXPORT_d0fb5aa0-cdf1-11e8-a8d5-f2801f1b9fd1*";
     ExportConfigCollection exportConfigCollection = objectMapper.readValue(getMockData("edifact/dataExportConfigs.json"), ExportConfigCollection.class);
     poLines.get(0).getVendorDetail().setVendorAccount(null);
-    doReturn(poLines).when(ordersService).getPoLinesByQuery(cqlString);
+    doReturn(poLines).when(ordersService).getPoLinesPage(cqlString, null);
     doReturn(exportConfigCollection).when(dataExportSpringClient).getExportConfigs(configSql);
     doReturn(orders).when(ordersService).getPurchaseOrdersByIds(anyList());
-    doReturn("test1").when(purchaseOrdersToEdifactMapper).convertOrdersToEdifact(any(), any(), anyString());
+    doNothing().when(purchaseOrdersToEdifactMapper).convertOrdersToEdifact(any(), any(), anyString(), any(OutputStream.class));
 
     JobExecution jobExecution = testLauncher.launchStep("mapToEdifactStep", getJobParameters(true));
 
     Assertions.assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
-    verify(ordersService).getPoLinesByQuery(cqlString);
+    verify(ordersService).getPoLinesPage(cqlString, null);
     verify(ordersService).getPurchaseOrdersByIds(anyList());
   }
 
@@ -169,13 +177,13 @@ class MapToEdifactTaskletTest extends BaseBatchTest {
       " AND (cql.allRecords=1 NOT lastEDIExportDate=\"\")" +
       " AND acquisitionMethod==(\"306489dd-0053-49ee-a068-c316444a8f55\")" +
       " AND vendorDetail.vendorAccount==(\"BRXXXXX-01\")";
-    doReturn(poLines).when(ordersService).getPoLinesByQuery(cqlString);
+    doReturn(poLines).when(ordersService).getPoLinesPage(cqlString, null);
 
     JobExecution jobExecution = testLauncher.launchStep("mapToEdifactStep", getJobParameters(false));
 
     assertThat(jobExecution.getExitStatus().getExitDescription(), containsString("Orders for export not found"));
-    verify(ordersService).getPoLinesByQuery(cqlString);
-    verify(ordersService).getPurchaseOrdersByIds(anyList());
+    verify(ordersService).getPoLinesPage(cqlString, null);
+    verify(ordersService, never()).getPurchaseOrdersByIds(anyList());
   }
 
   private JobParameters getJobParameters(boolean isDefaultConfig) throws IOException {
@@ -6,6 +6,7 @@ import static org.folio.dew.utils.Constants.EDIFACT_EXPORT_DIR_NAME;
 import static org.folio.dew.utils.Constants.getWorkingDirectory;
 import static org.folio.dew.utils.TestUtils.getMockData;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
@@ -19,6 +20,7 @@ import org.apache.commons.lang3.RandomStringUtils;
 import org.folio.dew.BaseBatchTest;
 import org.folio.dew.batch.acquisitions.edifact.services.OrganizationsService;
 import org.folio.dew.repository.FTPObjectStorageRepository;
+import org.folio.dew.repository.ResumableInputSource;
 import org.folio.dew.repository.SFTPObjectStorageRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.ExitStatus;
@@ -49,7 +51,7 @@ class SaveToFileStorageTaskletTest extends BaseBatchTest {
   void sftpUploadSuccessful() throws Exception {
     JobLauncherTestUtils testLauncher = createTestLauncher(edifactExportJob);
 
-    doReturn(true).when(sftpObjectStorageRepository).upload(anyString(), anyString(), anyString(), anyInt(), anyString(), anyString(), any());
+    doReturn(true).when(sftpObjectStorageRepository).upload(anyString(), anyString(), anyString(), anyInt(), anyString(), anyString(), any(ResumableInputSource.class), anyBoolean());
     JsonNode vendorJson = objectMapper.readTree("{\"code\": \"GOBI\"}");
     doReturn(vendorJson).when(organizationsService).getOrganizationById(anyString());
 
@@ -69,7 +71,7 @@ class SaveToFileStorageTaskletTest extends BaseBatchTest {
 
     JsonNode vendorJson = objectMapper.readTree("{\"code\": \"GOBI\"}");
     doReturn(vendorJson).when(organizationsService).getOrganizationById(anyString());
-    doNothing().when(ftpObjectStorageRepository).upload(anyString(),anyString(),anyString(), anyString(), anyString(), any());
+    doNothing().when(ftpObjectStorageRepository).upload(anyString(),anyString(),anyString(), anyString(), anyString(), any(ResumableInputSource.class), anyBoolean());
 
     JobParameters jobParameters = getSFTPJobParameters();
     ExecutionContext executionContext = getExecutionContext(jobParameters.getString(UPLOADED_FILE_PATH));
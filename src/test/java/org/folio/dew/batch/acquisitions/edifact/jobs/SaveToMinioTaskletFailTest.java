@@ -3,6 +3,7 @@ package org.folio.dew.batch.acquisitions.edifact.jobs;
 import static org.folio.dew.utils.TestUtils.getMockData;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -10,7 +11,6 @@ import static org.mockito.Mockito.doThrow;
 import java.io.IOException;
 import java.util.UUID;
 
-import org.apache.commons.lang3.RandomStringUtils;
 import org.folio.dew.BaseBatchTest;
 import org.folio.dew.batch.acquisitions.edifact.services.OrganizationsService;
 import org.folio.dew.repository.RemoteFilesStorage;
@@ -48,7 +48,8 @@ class SaveToMinioTaskletFailTest extends BaseBatchTest {
     JsonNode vendorJson = objectMapper.readTree("{\"code\": \"GOBI\"}");
     doReturn(vendorJson).when(organizationsService).getOrganizationById(anyString());
 
-    doThrow(new NullPointerException(NULL_POINTER_ERROR_TEXT)).when(remoteFilesStorage).write(anyString(), any(byte[].class));
+    doThrow(new NullPointerException(NULL_POINTER_ERROR_TEXT)).when(remoteFilesStorage)
+      .uploadObject(anyString(), anyString(), any(), any(), anyBoolean());
 
     JobExecution jobExecution = testLauncher.launchStep("saveToMinIOStep", getJobParameters(), getExecutionContext());
 
@@ -67,7 +68,7 @@ class SaveToMinioTaskletFailTest extends BaseBatchTest {
 
   private ExecutionContext getExecutionContext() {
     ExecutionContext executionContext = new ExecutionContext();
-    executionContext.put("edifactOrderAsString", RandomStringUtils.random(100, true, true));
+    executionContext.put(MapToEdifactTasklet.EDIFACT_FILE_PATH, "edifact/" + UUID.randomUUID() + ".edi");
     return executionContext;
   }
 
@@ -2,6 +2,7 @@ package org.folio.dew.batch.acquisitions.edifact.jobs;
 
 import static org.folio.dew.utils.TestUtils.getMockData;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 
@@ -11,6 +12,7 @@ import java.util.UUID;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.folio.dew.BaseBatchTest;
 import org.folio.dew.batch.acquisitions.edifact.services.OrganizationsService;
+import org.folio.dew.repository.LocalFilesStorage;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
@@ -30,6 +32,8 @@ class SaveToMinioTaskletTest extends BaseBatchTest {
   private Job edifactExportJob;
   @MockBean
   private OrganizationsService organizationsService;
+  @Autowired
+  private LocalFilesStorage localFilesStorage;
 
   @Test
   @DirtiesContext
@@ -39,9 +43,13 @@ class SaveToMinioTaskletTest extends BaseBatchTest {
     JsonNode vendorJson = objectMapper.readTree("{\"code\": \"GOBI\"}");
     doReturn(vendorJson).when(organizationsService).getOrganizationById(anyString());
 
-    JobExecution jobExecution = testLauncher.launchStep("saveToMinIOStep", getJobParameters(), getExecutionContext());
+    var edifactFilePath = "edifact/" + UUID.randomUUID() + ".edi";
+    localFilesStorage.write(edifactFilePath, RandomStringUtils.random(100, true, true).getBytes());
+
+    JobExecution jobExecution = testLauncher.launchStep("saveToMinIOStep", getJobParameters(), getExecutionContext(edifactFilePath));
 
     assertEquals(ExitStatus.COMPLETED, jobExecution.getExitStatus());
+    assertFalse(localFilesStorage.exists(edifactFilePath));
   }
 
 
@@ -56,9 +64,9 @@ class SaveToMinioTaskletTest extends BaseBatchTest {
     return paramsBuilder.toJobParameters();
   }
 
-  private ExecutionContext getExecutionContext() {
+  private ExecutionContext getExecutionContext(String edifactFilePath) {
     ExecutionContext executionContext = new ExecutionContext();
-    executionContext.put("edifactOrderAsString", RandomStringUtils.random(100, true, true));
+    executionContext.put(MapToEdifactTasklet.EDIFACT_FILE_PATH, edifactFilePath);
     return executionContext;
   }
 
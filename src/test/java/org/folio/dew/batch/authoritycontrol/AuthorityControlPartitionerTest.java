@@ -0,0 +1,60 @@
+package org.folio.dew.batch.authoritycontrol;
+
+import static org.folio.dew.batch.authoritycontrol.AuthorityControlPartitioner.FROM_DATE;
+import static org.folio.dew.batch.authoritycontrol.AuthorityControlPartitioner.PARTITION;
+import static org.folio.dew.batch.authoritycontrol.AuthorityControlPartitioner.TO_DATE;
+import static org.folio.dew.domain.dto.JobParameterNames.TEMP_OUTPUT_FILE_PATH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+class AuthorityControlPartitionerTest {
+
+  private static final String TEMP_FILE = "test.csv";
+
+  @Test
+  void shouldSplitRangeIntoDisjointWindowsFromLatest() {
+    var partitioner = new AuthorityControlPartitioner(LocalDate.parse("2023-01-01"), LocalDate.parse("2023-03-15"),
+      31, TEMP_FILE);
+
+    var partitions = List.copyOf(partitioner.partition(1).values());
+
+    assertEquals(3, partitions.size());
+    assertWindow(partitions.get(0), 0, "2023-02-13", "2023-03-15");
+    assertWindow(partitions.get(1), 1, "2023-01-13", "2023-02-12");
+    assertWindow(partitions.get(2), 2, "2023-01-01", "2023-01-12");
+  }
+
+  @Test
+  void shouldKeepWholeRangeWhenPartitioningDisabled() {
+    var partitioner = new AuthorityControlPartitioner(LocalDate.parse("2023-01-01"), LocalDate.parse("2023-12-01"),
+      0, TEMP_FILE);
+
+    var partitions = List.copyOf(partitioner.partition(1).values());
+
+    assertEquals(1, partitions.size());
+    assertWindow(partitions.get(0), 0, "2023-01-01", "2023-12-01");
+  }
+
+  @Test
+  void shouldKeepOpenRangeInOnePartition() {
+    var partitioner = new AuthorityControlPartitioner(null, null, 31, TEMP_FILE);
+
+    var partitions = List.copyOf(partitioner.partition(1).values());
+
+    assertEquals(1, partitions.size());
+    assertFalse(partitions.get(0).containsKey(FROM_DATE));
+    assertFalse(partitions.get(0).containsKey(TO_DATE));
+  }
+
+  private void assertWindow(ExecutionContext context, int partition, String from, String to) {
+    assertEquals(partition, context.getInt(PARTITION));
+    assertEquals(from, context.getString(FROM_DATE));
+    assertEquals(to, context.getString(TO_DATE));
+    assertEquals(TEMP_FILE + "_" + partition + ".tmp", context.getString(TEMP_OUTPUT_FILE_PATH));
+  }
+}
@@ -0,0 +1,112 @@
+package org.folio.dew.batch.eholdings;
+
+import static java.util.Collections.singletonList;
+import static org.folio.dew.batch.eholdings.EHoldingsAgreementWriteListener.AGREEMENTS_PER_PAGE;
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.LOAD_FIELD_TITLE_AGREEMENTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.folio.dew.client.AgreementClient;
+import org.folio.dew.client.AgreementClient.Agreement;
+import org.folio.dew.client.AgreementClient.AgreementItem;
+import org.folio.dew.domain.dto.EHoldingsExportConfig;
+import org.folio.dew.domain.dto.eholdings.EHoldingsResourceDTO;
+import org.folio.dew.domain.dto.eholdings.ResourcesAttributes;
+import org.folio.dew.domain.dto.eholdings.ResourcesData;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+
+class EHoldingsAgreementWriteListenerTest {
+
+  private static final String FIRST_RESOURCE_ID = "1-22-333";
+  private static final String SECOND_RESOURCE_ID = "1-22-334";
+
+  private final AgreementClient agreementClient = mock(AgreementClient.class);
+  private final EHoldingsAgreementWriteListener listener = new EHoldingsAgreementWriteListener(agreementClient,
+    new EHoldingsExportConfig().titleFields(singletonList(LOAD_FIELD_TITLE_AGREEMENTS)));
+
+  @Test
+  void shouldLoadAgreementsOfAllPages() {
+    var firstPage = IntStream.range(0, AGREEMENTS_PER_PAGE)
+      .mapToObj(i -> agreement("First " + i, FIRST_RESOURCE_ID))
+      .toList();
+    var secondPage = List.of(agreement("Second", SECOND_RESOURCE_ID), agreement("Both", FIRST_RESOURCE_ID, SECOND_RESOURCE_ID));
+    when(agreementClient.getAssignedAgreements(anyString(), anyInt(), anyInt())).thenReturn(firstPage, secondPage);
+    var first = resource(FIRST_RESOURCE_ID);
+    var second = resource(SECOND_RESOURCE_ID);
+
+    listener.beforeWrite(new Chunk<>(List.of(first, second)));
+
+    assertEquals(AGREEMENTS_PER_PAGE + 1, first.getAgreements().size());
+    assertEquals("Both", first.getAgreements().get(AGREEMENTS_PER_PAGE).getName());
+    assertEquals(List.of("Second", "Both"), second.getAgreements().stream().map(Agreement::getName).toList());
+    verify(agreementClient).getAssignedAgreements(anyString(), anyInt(), eq(2));
+  }
+
+  @Test
+  void shouldLoadAgreementsPerResourceWhenItemReferencesAreMissing() {
+    // list responses without item references, as returned by ERM
+    when(agreementClient.getAssignedAgreements(anyString(), anyInt(), anyInt()))
+      .thenAnswer(invocation -> List.of(agreement("Any")));
+    when(agreementClient.getAssignedAgreements("items.reference=" + FIRST_RESOURCE_ID, AGREEMENTS_PER_PAGE, 1))
+      .thenReturn(List.of(agreement("First")));
+    when(agreementClient.getAssignedAgreements("items.reference=" + SECOND_RESOURCE_ID, AGREEMENTS_PER_PAGE, 1))
+      .thenReturn(List.of());
+    var first = resource(FIRST_RESOURCE_ID);
+    var second = resource(SECOND_RESOURCE_ID);
+
+    listener.beforeWrite(new Chunk<>(List.of(first, second)));
+
+    assertEquals(List.of("First"), first.getAgreements().stream().map(Agreement::getName).toList());
+    assertEquals(List.of(), second.getAgreements());
+    verify(agreementClient, never()).getAssignedAgreements(anyString());
+  }
+
+  @Test
+  void shouldMatchOnlyRequestedResources() {
+    when(agreementClient.getAssignedAgreements(anyString(), anyInt(), anyInt()))
+      .thenReturn(List.of(agreement("Other", "1-22-999")));
+    var first = resource(FIRST_RESOURCE_ID);
+    var second = resource(SECOND_RESOURCE_ID);
+
+    listener.beforeWrite(new Chunk<>(List.of(first, second)));
+
+    assertEquals(List.of(), first.getAgreements());
+    verify(agreementClient).getAssignedAgreements(anyString(), anyInt(), anyInt());
+  }
+
+  private static Agreement agreement(String name, String... resourceIds) {
+    var agreement = new Agreement();
+    agreement.setName(name);
+    if (resourceIds.length > 0) {
+      agreement.setItems(Stream.of(resourceIds)
+        .map(id -> {
+          var item = new AgreementItem();
+          item.setReference(id);
+          return item;
+        })
+        .toList());
+    }
+    return agreement;
+  }
+
+  private static EHoldingsResourceDTO resource(String resourceId) {
+    var ids = resourceId.split("-");
+    var attributes = new ResourcesAttributes();
+    attributes.setPackageId(ids[0] + "-" + ids[1]);
+    attributes.setTitleId(Integer.parseInt(ids[2]));
+    var resourcesData = new ResourcesData();
+    resourcesData.setId(resourceId);
+    resourcesData.setAttributes(attributes);
+    return EHoldingsResourceDTO.builder().resourcesData(resourcesData).build();
+  }
+}
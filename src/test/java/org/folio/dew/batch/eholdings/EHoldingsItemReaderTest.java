@@ -5,14 +5,21 @@ import static org.folio.dew.batch.eholdings.EHoldingsItemReader.MAX_RETRIEVABLE_
 import static org.folio.dew.client.KbEbscoClient.COUNT_PARAM;
 import static org.folio.dew.client.KbEbscoClient.PAGE_PARAM;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import feign.FeignException;
+import feign.Request;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -24,10 +31,14 @@ import org.folio.dew.domain.dto.eholdings.EHoldingsResourceDTO;
 import org.folio.dew.domain.dto.eholdings.EResources;
 import org.folio.dew.domain.dto.eholdings.MetaTotalResults;
 import org.folio.dew.domain.dto.eholdings.ResourcesData;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 
 @ExtendWith(MockitoExtension.class)
 class EHoldingsItemReaderTest {
@@ -41,6 +52,7 @@ class EHoldingsItemReaderTest {
     .recordType(EHoldingsExportConfig.RecordTypeEnum.PACKAGE)
     .titleFields(singletonList("test"));
   private final KbEbscoClient kbEbscoClient = mock(KbEbscoClient.class);
+  private final TaskExecutor prefetchExecutor = new SimpleAsyncTaskExecutor();
 
   /**
    * Verifies that pagination goes the right way, not exceeding upper bound of api
@@ -50,7 +62,7 @@ class EHoldingsItemReaderTest {
   @MethodSource("getLimits")
   void shouldReadAllPages(int limit) throws Exception {
     jobProperties.setKbEbscoChunkSize(limit);
-    var itemReader = spy(new EHoldingsItemReader(kbEbscoClient, exportConfig, jobProperties));
+    var itemReader = spy(new EHoldingsItemReader(kbEbscoClient, exportConfig, jobProperties, prefetchExecutor));
 
     doCallRealMethod().when(kbEbscoClient).constructParams(anyInt(), anyInt(), anyString(), any());
 
@@ -87,6 +99,80 @@ class EHoldingsItemReaderTest {
     assertEquals(MAX_RETRIEVABLE_RESULTS, resourcesQueried.get());
   }
 
+  /**
+   * Verifies that read-ahead keeps page order and does not request more than retrievable
+   * */
+  @SuppressWarnings("unchecked")
+  @ParameterizedTest
+  @MethodSource("getLimits")
+  void shouldReadAllPagesInOrderWithPrefetch(int limit) throws Exception {
+    jobProperties.setKbEbscoChunkSize(limit);
+    jobProperties.setKbEbscoPrefetchPages(3);
+    var itemReader = new EHoldingsItemReader(kbEbscoClient, exportConfig, jobProperties, prefetchExecutor);
+
+    doCallRealMethod().when(kbEbscoClient).constructParams(anyInt(), anyInt(), anyString(), any());
+
+    var resourcesQueried = new AtomicLong();
+    when(kbEbscoClient.getResourcesByPackageId(any(), any()))
+      .thenReturn(new EResources().meta(new MetaTotalResults().totalResults(EXCEEDING_RESULT_NUMBER)))
+      .thenAnswer(invocationOnMock -> {
+        var actualPage = Integer.parseInt(
+          ((Map<String, String>) invocationOnMock.getArgument(1)).get(PAGE_PARAM));
+        var actualLimit = Integer.parseInt(
+          ((Map<String, String>) invocationOnMock.getArgument(1)).get(COUNT_PARAM));
+        resourcesQueried.getAndAdd(actualLimit);
+        var offset = (actualPage - 1) * actualLimit;
+        var data = Stream.iterate(offset, i -> i + 1)
+          .limit(actualLimit)
+          .map(this::resourcesData)
+          .collect(Collectors.toList());
+        return new EResources().data(data).meta(new MetaTotalResults().totalResults(EXCEEDING_RESULT_NUMBER));
+      });
+
+    itemReader.open(new ExecutionContext());
+    var ids = new ArrayList<String>();
+    var item = itemReader.read();
+    while (item != null) {
+      ids.add(item.getResourcesData().getId());
+      item = itemReader.read();
+    }
+    itemReader.close();
+
+    assertEquals(MAX_RETRIEVABLE_RESULTS, resourcesQueried.get());
+    assertEquals(MAX_RETRIEVABLE_RESULTS, ids.size());
+    for (int i = 0; i < ids.size(); i++) {
+      assertEquals(String.valueOf(i), ids.get(i));
+    }
+  }
+
+  @Test
+  void shouldRetryPageOnRateLimit() throws Exception {
+    jobProperties.setKbEbscoChunkSize(MAX_LIMIT);
+    jobProperties.setKbEbscoRateLimitBackoffMs(1);
+    var itemReader = new EHoldingsItemReader(kbEbscoClient, exportConfig, jobProperties, prefetchExecutor);
+
+    doCallRealMethod().when(kbEbscoClient).constructParams(anyInt(), anyInt(), anyString(), any());
+
+    var request = Request.create(Request.HttpMethod.GET, "/eholdings/packages", Map.of(), null,
+      StandardCharsets.UTF_8, null);
+    when(kbEbscoClient.getResourcesByPackageId(any(), any()))
+      .thenReturn(new EResources().meta(new MetaTotalResults().totalResults(1)))
+      .thenThrow(new FeignException.TooManyRequests("Too Many Requests", request, null, null))
+      .thenReturn(new EResources().data(singletonList(resourcesData(0))).meta(new MetaTotalResults().totalResults(1)));
+
+    itemReader.doOpen();
+
+    assertEquals("0", itemReader.read().getResourcesData().getId());
+    assertNull(itemReader.read());
+    verify(kbEbscoClient, times(3)).getResourcesByPackageId(any(), any());
+  }
+
+  private ResourcesData resourcesData(int id) {
+    var resourcesData = new ResourcesData();
+    resourcesData.setId(String.valueOf(id));
+    return resourcesData;
+  }
+
   /**
    * Get possible limits. Omit those which will not trigger pagination values customization
    * */
@@ -0,0 +1,61 @@
+package org.folio.dew.batch.eholdings;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.folio.dew.config.properties.EHoldingsJobProperties;
+import org.folio.dew.repository.EHoldingsPackageRepository;
+import org.folio.dew.repository.EHoldingsResourceRepository;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EHoldingsOrphansSweeperTest {
+
+  private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+  @Mock
+  private EHoldingsPackageRepository packageRepository;
+  @Mock
+  private EHoldingsResourceRepository resourceRepository;
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+  @Mock
+  private Clock clock;
+
+  private final EHoldingsJobProperties jobProperties = new EHoldingsJobProperties();
+
+  @Test
+  void shouldSweepOncePerIntervalAfterStart() {
+    when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+    when(clock.instant()).thenReturn(START);
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    var sweeper = new EHoldingsOrphansSweeper(packageRepository, resourceRepository, jobProperties,
+      folioExecutionContext, clock);
+
+    sweeper.sweepIfDue();
+    verify(resourceRepository, never()).deleteOrphans(any());
+
+    when(clock.instant()).thenReturn(START.plus(jobProperties.getOrphanSweepInterval()));
+    sweeper.sweepIfDue();
+    sweeper.sweepIfDue();
+    verify(packageRepository, times(1)).deleteOrphans(any());
+    verify(resourceRepository, times(1)).deleteOrphans(any());
+
+    when(clock.instant()).thenReturn(START.plus(jobProperties.getOrphanSweepInterval().multipliedBy(2)));
+    sweeper.sweepIfDue();
+    verify(resourceRepository, times(2)).deleteOrphans(
+      START.plus(jobProperties.getOrphanSweepInterval().multipliedBy(2))
+        .minus(Duration.ofDays(1)).atOffset(ZoneOffset.UTC).toLocalDateTime());
+  }
+}
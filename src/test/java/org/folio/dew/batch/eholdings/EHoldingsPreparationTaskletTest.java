@@ -0,0 +1,133 @@
+package org.folio.dew.batch.eholdings;
+
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.CONTEXT_MAX_PACKAGE_NOTES_COUNT;
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.CONTEXT_TOTAL_PACKAGES;
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.LOAD_FIELD_PACKAGE_AGREEMENTS;
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.LOAD_FIELD_PACKAGE_NOTES;
+import static org.folio.dew.batch.eholdings.EHoldingsJobConstants.LOAD_FIELD_PROVIDER_TOKEN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.folio.de.entity.EHoldingsPackage;
+import org.folio.dew.client.AgreementClient;
+import org.folio.dew.client.KbEbscoClient;
+import org.folio.dew.client.NotesClient;
+import org.folio.dew.config.properties.EHoldingsJobProperties;
+import org.folio.dew.domain.dto.EHoldingsExportConfig;
+import org.folio.dew.domain.dto.eholdings.EPackage;
+import org.folio.dew.domain.dto.eholdings.EProvider;
+import org.folio.dew.domain.dto.eholdings.Note;
+import org.folio.dew.domain.dto.eholdings.PackageAttributes;
+import org.folio.dew.domain.dto.eholdings.PackageData;
+import org.folio.dew.repository.EHoldingsPackageRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class EHoldingsPreparationTaskletTest {
+
+  private static final String PACKAGE_ID = "1-22";
+
+  private final KbEbscoClient kbEbscoClient = mock(KbEbscoClient.class);
+  private final NotesClient notesClient = mock(NotesClient.class);
+  private final AgreementClient agreementClient = mock(AgreementClient.class);
+  private final EHoldingsPackageRepository repository = mock(EHoldingsPackageRepository.class);
+  private final EHoldingsJobProperties jobProperties = new EHoldingsJobProperties();
+  private final JobExecution jobExecution = new JobExecution(1L);
+  private final List<Runnable> queuedRequests = new ArrayList<>();
+
+  @Test
+  void shouldLoadPackageDetailsAndSaveRecord() {
+    var provider = new EProvider();
+    var note = new Note();
+    var notes = new NotesClient.NoteCollection();
+    notes.setNotes(List.of(note));
+    notes.setTotalRecords(1);
+    var agreement = new AgreementClient.Agreement();
+    agreement.setName("Agreement");
+    when(kbEbscoClient.getPackageById(eq(PACKAGE_ID), anyString())).thenReturn(ePackage());
+    when(kbEbscoClient.getProviderById("1", null)).thenReturn(provider);
+    when(notesClient.getAssignedNotes(any(), any(), eq(PACKAGE_ID))).thenReturn(notes);
+    when(agreementClient.getAssignedAgreements(anyString())).thenReturn(List.of(agreement));
+
+    var status = createTasklet(Runnable::run).execute(null, null);
+
+    assertEquals(RepeatStatus.FINISHED, status);
+    var packageCaptor = ArgumentCaptor.forClass(EHoldingsPackage.class);
+    verify(repository).save(packageCaptor.capture());
+    assertEquals(PACKAGE_ID, packageCaptor.getValue().getId());
+    assertEquals(1L, packageCaptor.getValue().getJobExecutionId());
+    assertTrue(packageCaptor.getValue().getAgreements().contains("Agreement"));
+    assertEquals(1, jobExecution.getExecutionContext().getInt(CONTEXT_TOTAL_PACKAGES));
+    assertEquals(1, jobExecution.getExecutionContext().getInt(CONTEXT_MAX_PACKAGE_NOTES_COUNT));
+  }
+
+  @Test
+  void shouldCancelQueuedRequestsWhenPackageRequestFails() {
+    when(kbEbscoClient.getPackageById(eq(PACKAGE_ID), anyString())).thenThrow(new IllegalArgumentException("Not found"));
+    // the package request is sent right away, the other ones wait for a free thread
+    var first = new AtomicBoolean(true);
+    var tasklet = createTasklet(request -> {
+      if (first.getAndSet(false)) {
+        request.run();
+      } else {
+        queuedRequests.add(request);
+      }
+    });
+
+    var exception = assertThrows(IllegalArgumentException.class, () -> tasklet.execute(null, null));
+
+    assertEquals("Not found", exception.getMessage());
+    queuedRequests.forEach(Runnable::run);
+    verifyNoInteractions(notesClient, agreementClient, repository);
+  }
+
+  @Test
+  void shouldCancelQueuedRequestsWhenPreparationTimesOut() {
+    jobProperties.setPreparationTimeout(Duration.ofMillis(10));
+    var tasklet = createTasklet(queuedRequests::add);
+
+    var exception = assertThrows(IllegalStateException.class, () -> tasklet.execute(null, null));
+
+    assertTrue(exception.getMessage().startsWith("Loading of package for record " + PACKAGE_ID + " timed out"));
+    queuedRequests.forEach(Runnable::run);
+    verifyNoInteractions(kbEbscoClient, notesClient, agreementClient, repository);
+  }
+
+  private EHoldingsPreparationTasklet createTasklet(TaskExecutor taskExecutor) {
+    var exportConfig = new EHoldingsExportConfig()
+      .recordId(PACKAGE_ID)
+      .recordType(EHoldingsExportConfig.RecordTypeEnum.PACKAGE)
+      .packageFields(List.of(LOAD_FIELD_PACKAGE_NOTES, LOAD_FIELD_PACKAGE_AGREEMENTS, LOAD_FIELD_PROVIDER_TOKEN));
+    var tasklet = new EHoldingsPreparationTasklet(kbEbscoClient, notesClient, agreementClient, exportConfig, repository,
+      jobProperties, taskExecutor);
+    ReflectionTestUtils.setField(tasklet, "jobExecution", jobExecution);
+    return tasklet;
+  }
+
+  private static EPackage ePackage() {
+    var packageAttributes = new PackageAttributes();
+    packageAttributes.setProviderId("1");
+    var packageData = new PackageData();
+    packageData.setId(PACKAGE_ID);
+    packageData.setAttributes(packageAttributes);
+    var ePackage = new EPackage();
+    ePackage.setData(packageData);
+    return ePackage;
+  }
+}
@@ -0,0 +1,23 @@
+package org.folio.dew.config;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * Executors of the files storages for tests starting them without {@link AsyncConfig}.
+ */
+@TestConfiguration
+public class FilesStorageExecutorsTestConfig {
+
+  @Bean(name = "storageDeleteExecutor")
+  public TaskExecutor getStorageDeleteExecutor() {
+    return new SyncTaskExecutor();
+  }
+
+  @Bean(name = "storageAssemblyExecutor")
+  public TaskExecutor getStorageAssemblyExecutor() {
+    return new SyncTaskExecutor();
+  }
+}
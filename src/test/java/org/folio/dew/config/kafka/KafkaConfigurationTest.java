@@ -0,0 +1,39 @@
+package org.folio.dew.config.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+class KafkaConfigurationTest {
+
+  private final DefaultKafkaProducerFactory<String, Object> producerFactory =
+    new DefaultKafkaProducerFactory<>(Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092"));
+
+  @Test
+  void shouldOverrideBatchingOfTopic() {
+    var environment = new MockEnvironment()
+      .withProperty("application.kafka.topic-configuration.data-export.job.update.linger-ms", "20")
+      .withProperty("application.kafka.topic-configuration.data-export.job.update.batch-size", "65536");
+
+    var template = KafkaConfiguration.topicKafkaTemplate(producerFactory, environment, KafkaService.Topic.JOB_UPDATE);
+
+    var configuration = template.getProducerFactory().getConfigurationProperties();
+    assertThat(template.getProducerFactory()).isNotSameAs(producerFactory);
+    assertThat(configuration)
+      .containsEntry(ProducerConfig.LINGER_MS_CONFIG, 20)
+      .containsEntry(ProducerConfig.BATCH_SIZE_CONFIG, 65536)
+      .containsEntry(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");
+  }
+
+  @Test
+  void shouldUseSharedProducerWithoutOverrides() {
+    var template = KafkaConfiguration.topicKafkaTemplate(producerFactory, new MockEnvironment(),
+      KafkaService.Topic.EXPORT_HISTORY_CREATE);
+
+    assertThat(template.getProducerFactory()).isSameAs(producerFactory);
+  }
+}
@@ -0,0 +1,108 @@
+package org.folio.dew.config.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaServiceTest {
+
+  @Mock
+  private KafkaAdmin kafkaAdmin;
+  @Mock
+  private KafkaTemplate<String, Object> kafkaTemplate;
+  @Mock
+  private KafkaTemplate<String, Object> exportHistoryKafkaTemplate;
+  @Mock
+  private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+  @Mock
+  private BeanFactory beanFactory;
+  @Mock
+  private Environment springEnvironment;
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private KafkaService kafkaService;
+
+  @BeforeEach
+  void setUp() {
+    kafkaService = new KafkaService(kafkaAdmin, kafkaTemplate, exportHistoryKafkaTemplate, kafkaListenerEndpointRegistry, beanFactory,
+      springEnvironment, folioExecutionContext, meterRegistry);
+    ReflectionTestUtils.setField(kafkaService, "environment", "folio");
+    ReflectionTestUtils.setField(kafkaService, "logPayloadMaxLength", 100);
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+  }
+
+  @Test
+  void shouldCompleteWhenMessageIsAcknowledged() throws Exception {
+    var sendResult = new SendResult<String, Object>(null, null);
+    when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(sendResult));
+
+    var result = kafkaService.send(KafkaService.Topic.JOB_UPDATE, "key", "data");
+
+    assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(sendResult);
+    verify(kafkaTemplate).send(eq("folio.diku.data-export.job.update"), eq("key"), eq("data"));
+    assertThat(meterRegistry.find("data.export.worker.kafka.send.failures").counter()).isNull();
+  }
+
+  @Test
+  void shouldCountFailureWithoutResending() {
+    when(kafkaTemplate.send(anyString(), anyString(), any()))
+      .thenReturn(CompletableFuture.failedFuture(new TimeoutException("delivery timeout expired")));
+
+    var result = kafkaService.send(KafkaService.Topic.JOB_UPDATE, "key", "data");
+
+    assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+    verify(kafkaTemplate).send(anyString(), anyString(), any());
+    assertThat(meterRegistry.get("data.export.worker.kafka.send.failures").tag("topic", "data-export.job.update")
+      .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCountFailureThrownBySend() {
+    when(kafkaTemplate.send(anyString(), anyString(), any())).thenThrow(new RecordTooLargeException("too large"));
+
+    var result = kafkaService.send(KafkaService.Topic.JOB_UPDATE, "key", "data");
+
+    assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+    assertThat(meterRegistry.get("data.export.worker.kafka.send.failures").tag("topic", "data-export.job.update")
+      .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSendThroughTemplateOfTopic() {
+    when(exportHistoryKafkaTemplate.send(anyString(), anyString(), any()))
+      .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+    kafkaService.send(KafkaService.Topic.EXPORT_HISTORY_CREATE, "key", "data");
+
+    verify(exportHistoryKafkaTemplate).send(anyString(), eq("key"), eq("data"));
+    verifyNoInteractions(kafkaTemplate);
+  }
+}
@@ -1,9 +1,13 @@
 package org.folio.dew.repository;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.text.SimpleDateFormat;
 import java.util.Locale;
@@ -19,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.mockftpserver.fake.FakeFtpServer;
 import org.mockftpserver.fake.UserAccount;
 import org.mockftpserver.fake.filesystem.DirectoryEntry;
+import org.mockftpserver.fake.filesystem.FileEntry;
 import org.mockftpserver.fake.filesystem.FileSystem;
 import org.mockftpserver.fake.filesystem.Permissions;
 import org.mockftpserver.fake.filesystem.UnixFakeFileSystem;
@@ -119,6 +124,66 @@ class FTPObjectStorageRepositoryTest {
     assertTrue(fakeFtpServer.getFileSystem().exists(ALLOWED_PATH + FILE_NAME));
   }
 
+  @Test
+  void testResumedUpload() throws Exception {
+    log.info("=== Test resumed upload ===");
+    var fileName = "resumed.txt";
+    var content = "Some text uploaded in two attempts";
+    fakeFtpServer.getFileSystem().add(new FileEntry(ALLOWED_PATH + fileName + ResumableInputSource.PART_FILE_SUFFIX, content.substring(0, 10)));
+
+    repository.upload(uri, USERNAME_VALID, PASSWORD_VALID, ALLOWED_PATH, fileName, ResumableInputSource.of(content.getBytes()), true);
+
+    assertArrayEquals(content.getBytes(), readFile(ALLOWED_PATH + fileName));
+    assertFalse(fakeFtpServer.getFileSystem().exists(ALLOWED_PATH + fileName + ResumableInputSource.PART_FILE_SUFFIX));
+  }
+
+  @Test
+  void testResumedUploadDoesNotAppendToExistingFile() throws Exception {
+    log.info("=== Test resumed upload over a file of a previous export ===");
+    var fileName = "stale.txt";
+    var content = "Some text of the current export".getBytes();
+    repository.upload(uri, USERNAME_VALID, PASSWORD_VALID, ALLOWED_PATH, fileName, "Some text".getBytes());
+
+    repository.upload(uri, USERNAME_VALID, PASSWORD_VALID, ALLOWED_PATH, fileName, ResumableInputSource.of(content), true);
+
+    assertArrayEquals(content, readFile(ALLOWED_PATH + fileName));
+  }
+
+  @Test
+  void testResumedUploadOfCompletePartialFile() throws Exception {
+    log.info("=== Test resumed upload when the whole content is already sent ===");
+    var fileName = "complete.txt";
+    var content = "Some text sent before the failure";
+    fakeFtpServer.getFileSystem().add(new FileEntry(ALLOWED_PATH + fileName + ResumableInputSource.PART_FILE_SUFFIX, content));
+    var source = new ResumableInputSource() {
+      @Override
+      public InputStream open(long offset) {
+        throw new AssertionError("Content should not be read again");
+      }
+
+      @Override
+      public long size() {
+        return content.length();
+      }
+    };
+
+    repository.upload(uri, USERNAME_VALID, PASSWORD_VALID, ALLOWED_PATH, fileName, source, true);
+
+    assertArrayEquals(content.getBytes(), readFile(ALLOWED_PATH + fileName));
+  }
+
+  @Test
+  void testResumedUploadOfLargerPartialFile() throws Exception {
+    log.info("=== Test resumed upload when the partial file is larger than the content ===");
+    var fileName = "larger.txt";
+    var content = "Some text".getBytes();
+    fakeFtpServer.getFileSystem().add(new FileEntry(ALLOWED_PATH + fileName + ResumableInputSource.PART_FILE_SUFFIX, "Some longer text of another export"));
+
+    repository.upload(uri, USERNAME_VALID, PASSWORD_VALID, ALLOWED_PATH, fileName, ResumableInputSource.of(content), true);
+
+    assertArrayEquals(content, readFile(ALLOWED_PATH + fileName));
+  }
+
   @Test
   void testFailedUpload() {
     log.info("=== Test unsuccessful upload ===");
@@ -127,4 +192,11 @@ class FTPObjectStorageRepositoryTest {
       () -> repository.upload(uri, USERNAME_VALID, PASSWORD_VALID, "/invalid/path/", FILE_NAME, FILE_CONTENT)
     );
   }
+
+  private byte[] readFile(String path) throws IOException {
+    var entry = (FileEntry) fakeFtpServer.getFileSystem().getEntry(path);
+    try (var is = entry.createInputStream()) {
+      return is.readAllBytes();
+    }
+  }
 }
@@ -1,6 +1,7 @@
 package org.folio.dew.repository;
 
 import org.apache.commons.lang3.ArrayUtils;
+import org.folio.dew.config.FilesStorageExecutorsTestConfig;
 import org.folio.dew.config.properties.LocalFilesStorageProperties;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,7 +26,7 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Log4j2
-@SpringBootTest(classes = { LocalFilesStorageProperties.class, LocalFilesStorage.class }, properties = {
+@SpringBootTest(classes = { LocalFilesStorageProperties.class, LocalFilesStorage.class, FilesStorageExecutorsTestConfig.class }, properties = {
     "application.minio-local.compose-with-aws-sdk = true", "application.minio-local.force-path-style = true" })
 @EnableConfigurationProperties
 class LocalFilesStorageAwsSdkComposingTest {
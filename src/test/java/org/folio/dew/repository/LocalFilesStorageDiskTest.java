@@ -0,0 +1,108 @@
+package org.folio.dew.repository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.folio.dew.config.properties.LocalFilesStorageProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.SyncTaskExecutor;
+
+class LocalFilesStorageDiskTest {
+
+  @TempDir
+  private Path diskPath;
+
+  private LocalFilesStorage localFilesStorage;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new LocalFilesStorageProperties();
+    properties.setEndpoint("http://127.0.0.1:9000/");
+    properties.setSubPath("local");
+    properties.setDiskPath(diskPath.toString());
+    localFilesStorage = new LocalFilesStorage(properties, new SyncTaskExecutor(), new SyncTaskExecutor());
+  }
+
+  @Test
+  void shouldAppendAndReadFilesOnDisk() throws IOException {
+    var path = "E/job/records.csv";
+    localFilesStorage.append(path, "header\n".getBytes());
+    localFilesStorage.append(path, "first\r\nsecond\rthird".getBytes());
+
+    assertTrue(Files.isRegularFile(diskPath.resolve("local/E/job/records.csv")));
+    assertTrue(localFilesStorage.exists(path));
+    assertFalse(localFilesStorage.exists("E/job"));
+    assertTrue(localFilesStorage.existsByPrefix("E/job"));
+    assertEquals(List.of("header", "first", "second", "third"), localFilesStorage.readAllLines(path));
+    assertEquals(4, localFilesStorage.countLines(path));
+    assertEquals(List.of("local/E/job/records.csv"), localFilesStorage.walk("E/job").toList());
+    try (var is = localFilesStorage.newInputStream(path, 14)) {
+      assertArrayEquals("second\rthird".getBytes(), is.readAllBytes());
+    }
+  }
+
+  @Test
+  void shouldCountLinesLikeLineReader() throws IOException {
+    for (var content : List.of("", "a", "a\n", "a\nb", "\n\n", "a\r", "a\r\r\nb\n")) {
+      localFilesStorage.write("lines.txt", content.getBytes());
+      try (var lines = localFilesStorage.lines("lines.txt")) {
+        assertEquals(lines.count(), localFilesStorage.countLines("lines.txt"), content);
+      }
+    }
+  }
+
+  @Test
+  void shouldDeleteFilesUnderPrefix() throws IOException {
+    localFilesStorage.write("E/storage/job/errors.csv", "error".getBytes());
+    localFilesStorage.write("E/storage/job/nested/part.csv", "part".getBytes());
+    localFilesStorage.write("E/storage/other.csv", "other".getBytes());
+
+    localFilesStorage.delete("E/storage/job");
+
+    assertFalse(localFilesStorage.existsByPrefix("E/storage/job"));
+    assertFalse(Files.exists(diskPath.resolve("local/E/storage/job")));
+    assertTrue(localFilesStorage.exists("E/storage/other.csv"));
+    assertThrows(IOException.class, () -> localFilesStorage.readAllBytes("E/storage/job/errors.csv"));
+  }
+
+  @Test
+  void shouldAssembleAndCopyFilesOnDisk() throws IOException {
+    localFilesStorage.write("E/parts/1.csv", "first\n".getBytes());
+    localFilesStorage.write("E/parts/2.csv", new byte[0]);
+    localFilesStorage.write("E/parts/3.csv", "second\n".getBytes());
+
+    localFilesStorage.assemble("E/assembled.csv", List.of("E/parts/1.csv", "E/parts/2.csv", "E/parts/3.csv"), Map.of());
+    localFilesStorage.copyFrom(localFilesStorage, "E/assembled.csv", "E/copy.csv", Map.of());
+
+    assertEquals("first\nsecond\n", Files.readString(diskPath.resolve("local/E/assembled.csv")));
+    assertEquals("first\nsecond\n", Files.readString(diskPath.resolve("local/E/copy.csv")));
+  }
+
+  @Test
+  void shouldNotCreateObjectStorageClients() {
+    assertNull(localFilesStorage.getMinioClient());
+    localFilesStorage.createBucketIfNotExists();
+  }
+
+  @Test
+  void shouldNotCopyOnServerSide() {
+    var remoteProperties = new LocalFilesStorageProperties();
+    remoteProperties.setEndpoint("http://127.0.0.1:9000/");
+    var objectStorage = new LocalFilesStorage(remoteProperties, new SyncTaskExecutor(), new SyncTaskExecutor());
+
+    assertFalse(objectStorage.isSameEndpoint(localFilesStorage));
+    assertTrue(objectStorage.isSameEndpoint(objectStorage));
+  }
+}
@@ -2,6 +2,7 @@ package org.folio.dew.repository;
 
 import io.minio.ObjectWriteArgs;
 import lombok.extern.log4j.Log4j2;
+import org.folio.dew.config.FilesStorageExecutorsTestConfig;
 import org.folio.dew.config.properties.LocalFilesStorageProperties;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,7 +17,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
 
 import static java.util.List.of;
 import static java.util.stream.Collectors.toList;
@@ -30,7 +33,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 @Log4j2
-@SpringBootTest(classes = {LocalFilesStorageProperties.class, LocalFilesStorage.class})
+@SpringBootTest(classes = {LocalFilesStorageProperties.class, LocalFilesStorage.class, FilesStorageExecutorsTestConfig.class})
 @EnableConfigurationProperties
 class LocalFilesStorageTest {
   private static final String NON_EXISTING_PATH = "non-existing-path";
@@ -134,6 +137,20 @@ class LocalFilesStorageTest {
     assertTrue(localFilesStorage.notExists(remoteFilePath));
   }
 
+  @Test
+  @DisplayName("Delete more objects than fit into one multi-object delete request")
+  void testRemoveObjectsInBatches() throws IOException {
+    var paths = IntStream.range(0, 1005).mapToObj(i -> "batch_delete/file_" + i + ".csv").toList();
+    for (String path : paths) {
+      localFilesStorage.write(path, new byte[] { 1 });
+    }
+
+    var errors = localFilesStorage.removeObjects(paths);
+
+    assertTrue(errors.isEmpty());
+    assertEquals(0, localFilesStorage.walk("batch_delete/").count());
+  }
+
   @Test
   @DisplayName("Files operations on non-existing file")
   void testNonExistingFileOperations() {
@@ -150,6 +167,22 @@ class LocalFilesStorageTest {
     assertFalse(localFilesStorage.exists(NON_EXISTING_PATH));
   }
 
+  @Test
+  @DisplayName("Exact object and prefix existence checks")
+  void testExistsAndExistsByPrefix() throws IOException {
+    var folder = "directory/" + UUID.randomUUID();
+    var path = folder + "/file.csv";
+    localFilesStorage.write(path, getRandomBytes(10));
+
+    assertTrue(localFilesStorage.exists(path));
+    assertFalse(localFilesStorage.exists(folder));
+    assertTrue(localFilesStorage.existsByPrefix(folder));
+    assertFalse(localFilesStorage.existsByPrefix(folder + "/other"));
+
+    localFilesStorage.delete(folder);
+    assertFalse(localFilesStorage.existsByPrefix(folder));
+  }
+
   private byte[] getRandomBytes(int size) {
     var original = new byte[size];
     ThreadLocalRandom.current()
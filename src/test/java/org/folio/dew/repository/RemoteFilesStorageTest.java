@@ -6,13 +6,26 @@ import org.folio.dew.BaseBatchTest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.minio.ObjectWriteArgs.MIN_MULTIPART_SIZE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RemoteFilesStorageTest extends BaseBatchTest {
 
   @Autowired
   private RemoteFilesStorage remoteFilesStorage;
+  @Autowired
+  private LocalFilesStorage localFilesStorage;
 
   @Test
   @SneakyThrows
@@ -26,4 +39,64 @@ class RemoteFilesStorageTest extends BaseBatchTest {
     assertTrue(remoteFilesStorage.containsFile(path));
     assertTrue(remoteFilesStorage.containsFile(uploadedPath));
   }
+
+  @Test
+  @SneakyThrows
+  void shouldReusePresignedUrlUntilObjectIsOverwritten() {
+    var path = "directory/presigned.csv";
+    remoteFilesStorage.write(path, "content".getBytes());
+
+    var url = remoteFilesStorage.objectToPresignedObjectUrl(path);
+    assertSame(url, remoteFilesStorage.objectToPresignedObjectUrl(path));
+
+    remoteFilesStorage.write(path, "new content".getBytes());
+    assertNotSame(url, remoteFilesStorage.objectToPresignedObjectUrl(path));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldCopyLocalFileOnServerSideWhenEndpointsMatch() {
+    var localPath = "directory/staged.csv";
+    var content = "id,name\n1,test".getBytes();
+    localFilesStorage.write(localPath, content);
+
+    assertTrue(remoteFilesStorage.isSameEndpoint(localFilesStorage));
+    var uploadedPath = remoteFilesStorage.uploadObject("directory/result.csv", localPath, "result.csv", "text/csv", true);
+
+    assertEquals("remote/directory/result.csv", uploadedPath);
+    assertArrayEquals(content, remoteFilesStorage.readAllBytes(uploadedPath));
+    assertFalse(localFilesStorage.exists(localPath));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldStreamContentOfKnownSize() {
+    var content = "streamed content".getBytes();
+
+    try (var is = new ByteArrayInputStream(content)) {
+      remoteFilesStorage.write("directory/streamed.csv", is, content.length, new HashMap<>());
+    }
+
+    assertEquals(content.length, remoteFilesStorage.size("directory/streamed.csv"));
+    assertArrayEquals(content, remoteFilesStorage.readAllBytes("directory/streamed.csv"));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldComposeObjectFromSmallAndLargeParts() {
+    var sizes = new int[] { 1024, 3 * 1024 * 1024, MIN_MULTIPART_SIZE + 10, 2 * 1024 * 1024, MIN_MULTIPART_SIZE * 2, 100 };
+    var expected = new ByteArrayOutputStream();
+    var parts = new ArrayList<String>();
+    for (int i = 0; i < sizes.length; i++) {
+      var content = new byte[sizes[i]];
+      ThreadLocalRandom.current().nextBytes(content);
+      expected.write(content);
+      parts.add(remoteFilesStorage.write("parts/part" + i + ".csv", content));
+    }
+
+    var composed = remoteFilesStorage.composeObject("directory/composed.csv", parts, "composed.csv", "text/csv");
+
+    assertArrayEquals(expected.toByteArray(), remoteFilesStorage.readAllBytes(composed));
+    parts.forEach(part -> assertFalse(remoteFilesStorage.exists(part)));
+  }
 }
@@ -1,11 +1,13 @@
 package org.folio.dew.repository;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 import lombok.extern.log4j.Log4j2;
 import org.apache.sshd.common.SshException;
 import org.apache.sshd.sftp.client.SftpClient;
@@ -112,6 +114,45 @@ class SFTPObjectStorageRepositoryTest extends BaseBatchTest {
     sftpRepository.logout();
   }
 
+  @Test
+  void testResumedUpload() throws Exception {
+    log.info("=== Test resumed upload ===");
+    byte[] content = "Some string with content uploaded in two attempts".getBytes();
+    String path = EXPORT_FOLDER_NAME + "/test/resume";
+    SftpClient sftpClient = sftpRepository.getSftpClient(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT);
+    sftpRepository.upload(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT, path, FILENAME + ResumableInputSource.PART_FILE_SUFFIX,
+      Arrays.copyOf(content, 10));
+    boolean uploaded = sftpRepository.upload(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT, path, FILENAME,
+      ResumableInputSource.of(content), true);
+    byte[] fileBytes = sftpRepository.download(sftpClient, path + "/" + FILENAME);
+
+    assertTrue(uploaded);
+    assertArrayEquals(content, fileBytes);
+
+    sftpClient.close();
+    sftpRepository.logout();
+  }
+
+  @Test
+  void testResumedUploadOfCompleteOrLargerPartialFile() throws Exception {
+    log.info("=== Test resumed upload when the partial file is not shorter than the content ===");
+    byte[] content = "Some string with content".getBytes();
+    String path = EXPORT_FOLDER_NAME + "/test/resume-complete";
+    SftpClient sftpClient = sftpRepository.getSftpClient(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT);
+
+    sftpRepository.upload(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT, path, FILENAME + ResumableInputSource.PART_FILE_SUFFIX, content);
+    sftpRepository.upload(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT, path, FILENAME, ResumableInputSource.of(content), true);
+    assertArrayEquals(content, sftpRepository.download(sftpClient, path + "/" + FILENAME));
+
+    sftpRepository.upload(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT, path, FILENAME + ResumableInputSource.PART_FILE_SUFFIX,
+      "Some longer string with content of another export".getBytes());
+    sftpRepository.upload(USERNAME, PASSWORD, SFTP_HOST, MAPPED_PORT, path, FILENAME, ResumableInputSource.of(content), true);
+    assertArrayEquals(content, sftpRepository.download(sftpClient, path + "/" + FILENAME));
+
+    sftpClient.close();
+    sftpRepository.logout();
+  }
+
   @Test
   void testSuccessfulDownload() throws Exception {
     log.info("=== Test successful download ===");
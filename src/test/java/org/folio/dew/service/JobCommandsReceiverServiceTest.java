@@ -1,36 +1,50 @@
 package org.folio.dew.service;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.UUID;
 import org.folio.de.entity.JobCommand;
 import org.folio.de.entity.JobCommandType;
 import org.folio.dew.BaseBatchTest;
+import org.folio.dew.batch.acquisitions.edifact.exceptions.EdifactException;
 import org.folio.dew.batch.acquisitions.edifact.services.FTPStorageService;
 import org.folio.dew.domain.dto.EHoldingsExportConfig;
 import org.folio.dew.domain.dto.ExportType;
 import org.folio.dew.domain.dto.JobParameterNames;
 import org.folio.dew.domain.dto.VendorEdiOrdersExportConfig;
 import org.folio.dew.domain.dto.authority.control.AuthorityControlExportConfig;
+import org.folio.dew.error.JobCommandInProgressException;
+import org.folio.dew.repository.JobCommandReceiptRepository;
 import org.folio.dew.repository.JobCommandRepository;
 import org.folio.dew.repository.RemoteFilesStorage;
+import org.folio.dew.repository.ResumableInputSource;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.JobExecutionException;
 import org.springframework.batch.core.JobParameter;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.support.Acknowledgment;
 
 class JobCommandsReceiverServiceTest extends BaseBatchTest {
 
@@ -41,6 +55,13 @@ class JobCommandsReceiverServiceTest extends BaseBatchTest {
   @MockBean
   FTPStorageService ftpStorageService;
 
+  @Autowired
+  private JobCommandReceiptRepository jobCommandReceiptRepository;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private final Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
   @Test
   @DisplayName("Start CirculationLog job by kafka request")
   void startCirculationLogJobTest() throws JobExecutionException {
@@ -48,49 +69,110 @@ class JobCommandsReceiverServiceTest extends BaseBatchTest {
     UUID id = UUID.randomUUID();
     JobCommand jobCommand = createStartCirculationLogJobRequest(id);
 
-    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders);
+    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders, acknowledgment);
+
+    verify(exportJobManagerSync, times(1)).launchJob(any());
+    verify(acknowledgment).acknowledge();
+  }
+
+  @Test
+  @DisplayName("Redelivered start job command does not launch the job again")
+  void redeliveredStartJobCommandTest() throws JobExecutionException {
+    UUID id = UUID.randomUUID();
+
+    jobCommandsReceiverService.receiveStartJobCommand(createStartCirculationLogJobRequest(id), okapiHeaders, acknowledgment);
+    jobCommandsReceiverService.receiveStartJobCommand(createStartCirculationLogJobRequest(id), okapiHeaders, acknowledgment);
 
     verify(exportJobManagerSync, times(1)).launchJob(any());
+    verify(acknowledgment, times(2)).acknowledge();
+  }
+
+  @Test
+  @DisplayName("Redelivered command is not skipped when the job was never launched after registration")
+  void redeliveredCommandAfterLostLaunchTest() throws JobExecutionException {
+    UUID id = UUID.randomUUID();
+    // the receiving pod registered the command and stopped before launching the job
+    jobCommandReceiptRepository.register(id, JobCommandType.START, Duration.ofMinutes(1));
+
+    var redelivered = createStartCirculationLogJobRequest(id);
+    assertThrows(JobCommandInProgressException.class,
+      () -> jobCommandsReceiverService.receiveStartJobCommand(redelivered, okapiHeaders, acknowledgment));
+    verify(exportJobManagerSync, never()).launchJob(any());
+    verify(acknowledgment, never()).acknowledge();
+
+    // the reservation expires, the next redelivery launches the job
+    jdbcTemplate.update("UPDATE job_command_receipt SET received_date = NOW() - INTERVAL '1 hour' WHERE job_id = ?", id);
+    jobCommandsReceiverService.receiveStartJobCommand(createStartCirculationLogJobRequest(id), okapiHeaders, acknowledgment);
+
+    verify(exportJobManagerSync, times(1)).launchJob(any());
+    verify(acknowledgment).acknowledge();
+    assertTrue(jobCommandReceiptRepository.isLaunched(id, JobCommandType.START));
+  }
+
+  @Test
+  @DisplayName("Start EDIFACT orders export job on acquisitions executor by kafka request")
+  void startEdifactOrdersExportJobTest() throws JobExecutionException {
+    UUID id = UUID.randomUUID();
+    JobCommand jobCommand = createStartResendRequest(id);
+    jobCommand.setType(JobCommandType.START);
+
+    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders, acknowledgment);
+
+    verify(exportJobManagerAcquisitions, times(1)).launchJob(any());
+    verify(exportJobManagerSync, never()).launchJob(any());
   }
 
   @Test
   @DisplayName("Resend job by kafka request")
   void startResendTest() throws Exception {
-    String testString = "Test string";
-
-    doReturn(testString.getBytes()).when(remoteFilesStorage).readAllBytes(anyString());
-    doNothing().when(ftpStorageService).uploadToFtp(any(), any(), anyString());
+    doNothing().when(ftpStorageService).uploadToFtp(any(), any(ResumableInputSource.class), anyString(), anyBoolean());
 
     UUID id = UUID.randomUUID();
     JobCommand jobCommand = createStartResendRequest(id);
-    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders);
+    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders, acknowledgment);
 
+    verify(acknowledgment, timeout(5_000)).acknowledge();
     verify(exportJobManagerSync, never()).launchJob(any());
   }
 
   @Test
   @DisplayName("Resend job should failed")
   void failedResendTest() throws Exception {
-    String testString = "Test string";
-
-    doReturn(testString.getBytes()).when(remoteFilesStorage).readAllBytes(anyString());
-    doThrow(new Exception("Something went wrong")).when(ftpStorageService).uploadToFtp(any(), any(), anyString());
+    doThrow(new IOException("Connection reset")).when(ftpStorageService).uploadToFtp(any(), any(ResumableInputSource.class), anyString(), anyBoolean());
 
     UUID id = UUID.randomUUID();
     JobCommand jobCommand = createStartResendRequest(id);
-    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders);
+    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders, acknowledgment);
 
+    verify(acknowledgment, timeout(5_000)).acknowledge();
+    verify(ftpStorageService).uploadToFtp(any(), any(ResumableInputSource.class), anyString(), eq(false));
+    verify(ftpStorageService, times(2)).uploadToFtp(any(), any(ResumableInputSource.class), anyString(), eq(true));
     verify(exportJobManagerSync, never()).launchJob(any());
   }
 
+  @Test
+  @DisplayName("Resend job should fail without retries when the failure is not a transfer one")
+  void failedResendWithoutRetriesTest() throws Exception {
+    doThrow(new EdifactException("No free upload slot")).when(ftpStorageService).uploadToFtp(any(), any(ResumableInputSource.class), anyString(), anyBoolean());
+
+    UUID id = UUID.randomUUID();
+    JobCommand jobCommand = createStartResendRequest(id);
+    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders, acknowledgment);
+
+    verify(acknowledgment, timeout(5_000)).acknowledge();
+    verify(ftpStorageService).uploadToFtp(any(), any(ResumableInputSource.class), anyString(), eq(false));
+    verify(ftpStorageService, never()).uploadToFtp(any(), any(ResumableInputSource.class), anyString(), eq(true));
+  }
+
   @Test
   @DisplayName("Resend job should failed JobId is null")
   void failedResendTestJobIdIsNull() throws Exception {
 
     JobCommand jobCommand = createStartResendRequest(null);
-    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders);
+    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders, acknowledgment);
 
-    verify(ftpStorageService, never()).uploadToFtp(any(), any(), anyString());
+    verify(acknowledgment, timeout(5_000)).acknowledge();
+    verify(ftpStorageService, never()).uploadToFtp(any(), any(ResumableInputSource.class), anyString(), anyBoolean());
     verify(exportJobManagerSync, never()).launchJob(any());
   }
 
@@ -100,7 +182,7 @@ class JobCommandsReceiverServiceTest extends BaseBatchTest {
     UUID id = UUID.randomUUID();
     JobCommand jobCommand = createStartEHoldingsJobRequest(id);
 
-    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders);
+    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders, acknowledgment);
 
     verify(exportJobManagerSync, times(1)).launchJob(any());
   }
@@ -111,7 +193,7 @@ class JobCommandsReceiverServiceTest extends BaseBatchTest {
     UUID id = UUID.randomUUID();
     JobCommand jobCommand = createStartAuthorityControlAuthorityJobRequest(id);
 
-    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders);
+    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders, acknowledgment);
 
     verify(exportJobManagerSync, times(1)).launchJob(any());
   }
@@ -122,7 +204,7 @@ class JobCommandsReceiverServiceTest extends BaseBatchTest {
     UUID id = UUID.randomUUID();
     JobCommand jobCommand = createStartAuthorityControlInstanceJobRequest(id);
 
-    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders);
+    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders, acknowledgment);
 
     verify(exportJobManagerSync, times(1)).launchJob(any());
   }
@@ -133,7 +215,9 @@ class JobCommandsReceiverServiceTest extends BaseBatchTest {
     UUID id = UUID.randomUUID();
     JobCommand jobCommand = createDeleteJobRequest(id);
 
-    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders);
+    jobCommandsReceiverService.receiveStartJobCommand(jobCommand, okapiHeaders, acknowledgment);
+
+    verify(acknowledgment, timeout(5_000)).acknowledge();
   }
 
   @Test
@@ -0,0 +1,53 @@
+package org.folio.dew.service;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.kafka.common.TopicPartition;
+import org.folio.dew.config.kafka.KafkaService;
+import org.folio.dew.error.JobCommandsQueueFullException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class JobCommandsWorkQueueTest {
+
+  private static final TopicPartition PARTITION = new TopicPartition("folio.diku.data-export.job.command", 3);
+
+  @Mock
+  private TaskExecutor executor;
+  @Mock
+  private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+  @Mock
+  private MessageListenerContainer container;
+
+  @Test
+  void shouldPausePartitionWhileQueueIsFull() {
+    when(kafkaListenerEndpointRegistry.getListenerContainer(KafkaService.EVENT_LISTENER_ID)).thenReturn(container);
+    var workQueue = new JobCommandsWorkQueue(executor, kafkaListenerEndpointRegistry);
+    var queuedTask = ArgumentCaptor.forClass(Runnable.class);
+    // the first command takes the only slot, the second one is rejected
+    doNothing().doThrow(new TaskRejectedException("full")).when(executor).execute(queuedTask.capture());
+
+    workQueue.submit(() -> {}, PARTITION);
+    assertThrows(JobCommandsQueueFullException.class, () -> workQueue.submit(() -> {}, PARTITION));
+
+    verify(container).pausePartition(PARTITION);
+    verify(container, never()).resumePartition(any());
+
+    queuedTask.getAllValues().get(0).run();
+
+    verify(container).resumePartition(PARTITION);
+  }
+}
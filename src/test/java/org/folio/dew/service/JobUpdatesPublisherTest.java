@@ -0,0 +1,159 @@
+package org.folio.dew.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.de.entity.Job;
+import org.folio.dew.config.kafka.KafkaService;
+import org.folio.dew.config.properties.JobUpdatesProperties;
+import org.folio.dew.domain.dto.Progress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class JobUpdatesPublisherTest {
+
+  private static final UUID JOB_ID = UUID.randomUUID();
+
+  @Mock
+  private KafkaService kafkaService;
+  @Mock
+  private TaskScheduler scheduler;
+
+  private JobUpdatesPublisher publisher;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new JobUpdatesProperties();
+    properties.setProgressInterval(Duration.ofHours(1));
+    properties.setProgressStep(10);
+    publisher = new JobUpdatesPublisher(kafkaService, scheduler, properties, new KafkaProperties());
+  }
+
+  @Test
+  void shouldMergeProgressUpdatesWithinInterval() {
+    publisher.publish(job(BatchStatus.STARTED, 0));
+    publisher.publish(job(BatchStatus.STARTED, 3));
+    publisher.publish(job(BatchStatus.STARTED, 6));
+
+    var flush = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler).schedule(flush.capture(), any(Instant.class));
+    verify(kafkaService, times(1)).send(eq(KafkaService.Topic.JOB_UPDATE), anyString(), any());
+
+    flush.getValue().run();
+
+    var jobCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(kafkaService, times(2)).send(eq(KafkaService.Topic.JOB_UPDATE), eq(JOB_ID.toString()), jobCaptor.capture());
+    assertThat(((Job) jobCaptor.getAllValues().get(1)).getProgress().getProgress()).isEqualTo(6);
+  }
+
+  @Test
+  void shouldPublishProgressWhenStepReached() {
+    publisher.publish(job(BatchStatus.STARTED, 0));
+    publisher.publish(job(BatchStatus.STARTED, 10));
+    publisher.publish(job(BatchStatus.STARTED, 25));
+
+    verify(kafkaService, times(3)).send(eq(KafkaService.Topic.JOB_UPDATE), eq(JOB_ID.toString()), any());
+    verify(scheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+  }
+
+  @Test
+  void shouldPublishTerminalUpdateImmediatelyAndDiscardPendingProgress() {
+    when(kafkaService.send(eq(KafkaService.Topic.JOB_UPDATE), anyString(), any()))
+      .thenReturn(CompletableFuture.completedFuture(null));
+
+    publisher.publish(job(BatchStatus.STARTED, 0));
+    publisher.publish(job(BatchStatus.STARTED, 5));
+    publisher.publish(job(BatchStatus.COMPLETED, 100));
+
+    var flush = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler, times(2)).schedule(flush.capture(), any(Instant.class));
+    flush.getAllValues().get(0).run();
+
+    var jobCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(kafkaService, times(2)).send(eq(KafkaService.Topic.JOB_UPDATE), eq(JOB_ID.toString()), jobCaptor.capture());
+    assertThat(((Job) jobCaptor.getValue()).getBatchStatus()).isEqualTo(BatchStatus.COMPLETED);
+  }
+
+  @Test
+  void shouldNotResendUnacknowledgedTerminalUpdate() {
+    when(kafkaService.send(eq(KafkaService.Topic.JOB_UPDATE), anyString(), any()))
+      .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+    publisher.publish(job(BatchStatus.FAILED, 40));
+
+    verify(kafkaService, times(1)).send(eq(KafkaService.Topic.JOB_UPDATE), eq(JOB_ID.toString()), any());
+    verify(scheduler).schedule(any(Runnable.class), any(Instant.class));
+  }
+
+  @Test
+  void shouldPublishProgressOfRelaunchedJob() {
+    when(kafkaService.send(eq(KafkaService.Topic.JOB_UPDATE), anyString(), any()))
+      .thenReturn(CompletableFuture.completedFuture(null));
+
+    publisher.publish(job(BatchStatus.FAILED, 40));
+    publisher.publishStarted(job(BatchStatus.STARTED, 0));
+    publisher.publish(job(BatchStatus.STARTED, 50));
+
+    var jobCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(kafkaService, times(3)).send(eq(KafkaService.Topic.JOB_UPDATE), eq(JOB_ID.toString()), jobCaptor.capture());
+    assertThat(((Job) jobCaptor.getValue()).getProgress().getProgress()).isEqualTo(50);
+
+    // the removal scheduled for the failed execution keeps the state of the relaunched one
+    var removal = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler).schedule(removal.capture(), any(Instant.class));
+    removal.getValue().run();
+    publisher.publish(job(BatchStatus.STARTED, 55));
+
+    verify(kafkaService, times(3)).send(eq(KafkaService.Topic.JOB_UPDATE), eq(JOB_ID.toString()), any());
+    verify(scheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+  }
+
+  @Test
+  void shouldDropProgressArrivingAfterTerminalUpdate() {
+    when(kafkaService.send(eq(KafkaService.Topic.JOB_UPDATE), anyString(), any()))
+      .thenReturn(CompletableFuture.completedFuture(null));
+
+    publisher.publish(job(BatchStatus.FAILED, 40));
+    publisher.publish(job(BatchStatus.STARTED, 50));
+
+    var jobCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(kafkaService).send(eq(KafkaService.Topic.JOB_UPDATE), eq(JOB_ID.toString()), jobCaptor.capture());
+    assertThat(((Job) jobCaptor.getValue()).getBatchStatus()).isEqualTo(BatchStatus.FAILED);
+
+    var removal = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler).schedule(removal.capture(), any(Instant.class));
+    removal.getValue().run();
+    publisher.publish(job(BatchStatus.STARTED, 0));
+
+    verify(kafkaService, times(2)).send(eq(KafkaService.Topic.JOB_UPDATE), eq(JOB_ID.toString()), any());
+  }
+
+  private Job job(BatchStatus status, int progressValue) {
+    var progress = new Progress();
+    progress.setProgress(progressValue);
+    var job = new Job();
+    job.setId(JOB_ID);
+    job.setBatchStatus(status);
+    job.setProgress(progress);
+    return job;
+  }
+}
@@ -7,6 +7,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class SpecialCharacterEscaperTest {
 
@@ -74,4 +75,21 @@ public class SpecialCharacterEscaperTest {
     List<String> actual = escaper.restore(arg);
     assertEquals(Collections.emptyList(), actual);
   }
+
+  @Test
+  void escapeWithoutSpecialCharactersReturnsSameInstanceTest() {
+    var escaper = new SpecialCharacterEscaper();
+    var initial = "test test";
+    assertSame(initial, escaper.escape(initial));
+    assertSame(initial, escaper.restore(initial));
+  }
+
+  @Test
+  void escapeAndRestoreMixedValueTest() {
+    var escaper = new SpecialCharacterEscaper();
+    var initial = "a|b;c:d%7Ce%";
+    var escaped = escaper.escape(initial);
+    assertEquals("a%7Cb%3Bc%3Ad%7Ce%", escaped);
+    assertEquals("a|b;c:d|e%", escaper.restore(escaped));
+  }
 }
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.opencsv.exceptions.CsvDataTypeMismatchException;
 import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
+import org.folio.dew.config.FilesStorageExecutorsTestConfig;
 import org.folio.dew.config.properties.LocalFilesStorageProperties;
 import org.folio.dew.domain.dto.ItemFormat;
 import org.folio.dew.repository.LocalFilesStorage;
@@ -13,11 +14,12 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
-@SpringBootTest(classes = { LocalFilesStorageProperties.class, LocalFilesStorage.class })
+@SpringBootTest(classes = { LocalFilesStorageProperties.class, LocalFilesStorage.class, FilesStorageExecutorsTestConfig.class })
 @EnableConfigurationProperties
 class CsvHelperTest {
   private static final String OUT_PATH = "test-dir/out.csv";
@@ -35,4 +37,20 @@ class CsvHelperTest {
     // Clean crated files
     localFilesStorage.delete(OUT_PATH);
   }
+
+  @Test
+  void shouldReplaceExistingCsv() throws CsvRequiredFieldEmptyException, CsvDataTypeMismatchException, IOException {
+    CsvHelper.saveRecordsToStorage(localFilesStorage, itemFormats(1100), ItemFormat.class, OUT_PATH);
+    CsvHelper.saveRecordsToStorage(localFilesStorage, itemFormats(5), ItemFormat.class, OUT_PATH);
+
+    // expect header + 5 records of the last save only
+    assertThat(localFilesStorage.readAllLines(OUT_PATH)).hasSize(6);
+    localFilesStorage.delete(OUT_PATH);
+  }
+
+  private List<ItemFormat> itemFormats(int count) {
+    return IntStream.rangeClosed(1, count)
+      .mapToObj(i -> ItemFormat.builder().id(UUID.randomUUID().toString()).barcode(Integer.toString(i)).build())
+      .collect(Collectors.toList());
+  }
 }
@@ -0,0 +1,43 @@
+package org.folio.dew.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.folio.dew.domain.dto.ItemFormat;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.api.Test;
+
+class CsvRowEncoderTest {
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+    "plain|plain",
+    "a,b|\"a,b\"",
+    "say \"hi\"|say \"\"hi\"\"",
+    "say \"hi\", bye|\"say \"\"hi\"\", bye\""
+  })
+  void shouldEscapeCsvValue(String value, String expected) {
+    assertThat(CsvRowEncoder.escapeCsvValue(value)).isEqualTo(expected);
+  }
+
+  @Test
+  void shouldReturnSameInstanceWhenNothingToEscape() {
+    var value = "nothing to escape";
+    assertThat(CsvRowEncoder.escapeCsvValue(value)).isSameAs(value);
+  }
+
+  @Test
+  void shouldQuoteExportValueWithLineBreak() {
+    var sb = new StringBuilder();
+    CsvRowEncoder.appendExportValue(sb, "line \"one\"\nline two");
+    assertThat(sb).hasToString("\"line \"\"one\"\"\\nline two\"");
+  }
+
+  @Test
+  void shouldExtractPropertiesInOrder() {
+    var item = ItemFormat.builder().id("id").barcode("barcode").build();
+    var encoder = CsvRowEncoder.forProperties(ItemFormat.class, new String[]{"barcode", "hrid", "id"});
+
+    assertThat(encoder.extract(item)).containsExactly("barcode", null, "id");
+  }
+}
@@ -0,0 +1,57 @@
+package org.folio.dew.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.folio.dew.domain.dto.HoldingsFormat;
+import org.folio.dew.domain.dto.HoldingsRecord;
+import org.folio.dew.domain.dto.Item;
+import org.folio.dew.domain.dto.ItemFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+class JsonRecordsBufferTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void shouldWriteEnrichedItemAsJsonLine() throws IOException {
+    var buffer = new JsonRecordsBuffer();
+    var itemFormat = ItemFormat.builder()
+      .original(new Item().id("item-id").title("original title"))
+      .title("title")
+      .holdingsData("holdings data")
+      .tenantId("diku")
+      .build();
+
+    buffer.writeEnriched(itemFormat);
+    buffer.newLine();
+    var lines = buffer.drainString().split("\n");
+
+    assertThat(lines).hasSize(1);
+    var json = objectMapper.readTree(lines[0]);
+    assertThat(json.get("tenantId").asText()).isEqualTo("diku");
+    assertThat(json.get(WriterHelper.ENTITY).get("id").asText()).isEqualTo("item-id");
+    assertThat(json.get(WriterHelper.ENTITY).get("title").asText()).isEqualTo("title");
+    assertThat(json.get(WriterHelper.ENTITY).get("holdingsData").asText()).isEqualTo("holdings data");
+  }
+
+  @Test
+  void shouldReuseBufferBetweenChunks() throws IOException {
+    var buffer = new JsonRecordsBuffer();
+    var holdingsFormat = HoldingsFormat.builder()
+      .original(new HoldingsRecord().id("holdings-id"))
+      .instanceHrid("in001")
+      .build();
+
+    buffer.writeEnriched(holdingsFormat);
+    buffer.newLine();
+    buffer.drainBytes();
+    buffer.writeEnriched(holdingsFormat);
+    var json = objectMapper.readTree(buffer.drainString());
+
+    assertThat(json.get(WriterHelper.ENTITY).get("instanceHrid").asText()).isEqualTo("in001");
+    assertThat(json.get(WriterHelper.ENTITY).has("itemBarcode")).isTrue();
+  }
+}